@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 @Configuration
@@ -65,12 +66,12 @@ public class DataInitializer implements CommandLineRunner {
                                         Anomaly.builder().processName("설비").count(5).avgDelay(1.0).type("warning")
                                                         .build()));
 
+                        LocalDate today = LocalDate.now();
                         historyRepository.saveAll(Arrays.asList(
-                                        DashboardHistory.builder().date("1/5").totalDelay(35.0).build(),
-                                        DashboardHistory.builder().date("1/6").totalDelay(42.0).build(),
-                                        DashboardHistory.builder().date("1/7").totalDelay(58.0).build(),
-                                        DashboardHistory.builder().date("1/8").totalDelay(51.0).build()));
-                        historyRepository.save(DashboardHistory.builder().date("2024-03-24").totalDelay(2.2).build());
+                                        DashboardHistory.builder().statDate(today.minusDays(4)).totalDelay(35.0).build(),
+                                        DashboardHistory.builder().statDate(today.minusDays(3)).totalDelay(42.0).build(),
+                                        DashboardHistory.builder().statDate(today.minusDays(2)).totalDelay(58.0).build(),
+                                        DashboardHistory.builder().statDate(today.minusDays(1)).totalDelay(51.0).build()));
                 }
 
                 // Seed Board
@@ -0,0 +1,28 @@
+package com.example.automobile_risk.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ *  ML 서비스 전용 HTTP 클라이언트
+ *  JDK HttpClient 는 keep-alive 커넥션 풀을 내장하고 있어 요청마다 새 연결을 맺지 않는다.
+ *  엔드포인트별 read timeout 은 MLGatewayClient 에서 같은 풀 위에 따로 설정한다.
+ */
+@Configuration
+public class MLGatewayConfig {
+
+    @Value("${ml-gateway.connect-timeout-ms:3000}")
+    private long connectTimeoutMillis;
+
+    @Bean
+    public HttpClient mlHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)   // uvicorn 은 h2c 미지원
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.automobile_risk.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ *  스케줄러 활성화 (@Scheduled 백그라운드 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,19 +1,96 @@
 package com.example.automobile_risk.controller;
 
-import com.example.automobile_risk.dto.DashboardResponse;
-import com.example.automobile_risk.service.DashboardService;
+import com.example.automobile_risk.service.DashboardSnapshotService;
+import com.example.automobile_risk.service.DashboardStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/v1/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardStreamService dashboardStreamService;
 
+    /**
+     *  메인 대시보드 (사전 계산된 스냅샷)
+     *  gzip 을 받는 클라이언트에는 미리 압축된 바이트를 그대로 내려준다. (Accept-Encoding q 값 기준, gzip;q=0 은 거부)
+     */
     @GetMapping("/main")
-    public DashboardResponse getMainDashboard() {
-        return dashboardService.getMainDashboardData();
+    public ResponseEntity<?> getMainDashboard(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshotService.getSnapshot();
+
+        if (acceptsGzip(acceptEncoding)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(snapshot.gzipJson());
+        }
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(snapshot.response());
+    }
+
+    /**
+     *  대시보드 변경분 스트림 (SSE)
+     *  최초 "snapshot" 이벤트 이후 바뀐 필드만 "delta" 이벤트로 전송
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  Accept-Encoding 에서 gzip 의 q 값이 0 보다 크면 true
+     *  gzip(x-gzip)이 명시되지 않았으면 "*" 의 q 값을 따른다, 해석할 수 없는 q 는 0 으로 본다
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            double quality = qualityOf(tokens);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = gzip == null ? quality : Math.max(gzip, quality);
+            } else if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double qualityOf(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
     }
 }
@@ -0,0 +1,227 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.service.ImageStore;
+import com.example.automobile_risk.service.ThumbnailService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 이미지 저장/제공 컨트롤러 (내용 주소 기반, ImageStore)
+ * - 파일명이 내용 해시이므로 ETag = 해시, 1년 immutable 캐시
+ * - Range 요청(단일 구간)은 206, If-None-Match 일치 시 304
+ * - 본문은 Tomcat sendfile(커널 zero-copy)로 보내고, 지원하지 않으면 FileChannel.transferTo 로 복사
+ * - 썸네일은 ThumbnailService (메모리 LRU → 디스크 → 즉시 생성)
+ */
+@RestController
+@RequestMapping("/api/v1/images")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ImageController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStore imageStore;
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * 이미지 저장 (ML 서비스가 분석 이미지를 올린다, X-Service-Token 필요 - SecurityConfig)
+     * POST /api/v1/images (multipart file) → {hash, extension, size, fileName, url}
+     * 형식/크기/해상도 검증과 저장소 용량 상한은 ImageStore 가 적용
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageStore.StoredImage> upload(@RequestParam("file") MultipartFile file) throws IOException {
+        ImageStore.StoredImage stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = imageStore.put(in, file.getOriginalFilename());
+        }
+        thumbnailService.requestAsync(stored.fileName());
+        return ResponseEntity.ok(stored);
+    }
+
+    /**
+     * 썸네일 제공 (긴 변 256px JPEG)
+     * GET /api/v1/images/{hash}.{ext}/thumbnail
+     */
+    @GetMapping("/{fileName:.+}/thumbnail")
+    public ResponseEntity<byte[]> serveThumbnail(@PathVariable String fileName,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws IOException {
+        String etag = "\"" + ImageStore.hashOf(fileName) + "-t" + ThumbnailService.THUMBNAIL_SIZE + "\"";
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                    .build();
+        }
+        return thumbnailService.get(fileName)
+                .map(bytes -> ResponseEntity.ok()
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .eTag(etag)
+                        .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL)
+                        .body(bytes))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 이미지 제공
+     * GET /api/v1/images/{hash}.{ext}
+     */
+    @GetMapping("/{fileName:.+}")
+    public void serve(@PathVariable String fileName,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        Optional<Path> found = imageStore.find(fileName);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = found.get();
+        String etag = "\"" + ImageStore.hashOf(fileName) + "\"";
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = Files.size(path);
+        long start = 0;
+        long end = size - 1;
+
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && rangeApplies(ifRange, etag)) {
+            long[] bounds = parseRange(range, size);
+            if (bounds != null && bounds.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(ImageStore.mediaTypeOf(fileName).toString());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     * If-None-Match 목록 중 하나라도 일치하면 true (약한 비교, "*" 포함)
+     */
+    private static boolean matchesAny(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Range 가 없거나 현재 ETag 와 강한 비교로 일치할 때만 Range 적용
+     * (약한 ETag, 날짜, 다른 ETag 면 전체 응답)
+     */
+    static boolean rangeApplies(String ifRange, String etag) {
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    /**
+     * 단일 bytes 구간 → [start, end] (양 끝 포함)
+     * 해석 불가/다중 구간이면 null (전체 응답), 만족할 수 없는 구간이면 빈 배열 (416)
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // 끝에서 n 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+            long start = Long.parseLong(first);
+            if (start >= size) {
+                return new long[0];
+            }
+            long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+            if (end < start) {
+                return null;
+            }
+            return new long[]{start, Math.min(end, size - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
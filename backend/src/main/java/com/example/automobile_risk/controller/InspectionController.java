@@ -0,0 +1,55 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.example.automobile_risk.service.AutoInspectionScheduler;
+import com.example.automobile_risk.service.InspectionStreamService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+/**
+ * 서버 자동 검사 조회 컨트롤러
+ * 검사는 AutoInspectionScheduler 가 수행하고, 클라이언트는 상태/결과를 조회하거나 스트림으로 받기만 한다.
+ */
+@RestController
+@RequestMapping("/api/v1/ml/inspections")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class InspectionController {
+
+    private final AutoInspectionScheduler autoInspectionScheduler;
+    private final InspectionStreamService inspectionStreamService;
+    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+
+    /**
+     * 스테이션별 커서/진행 상태
+     * GET /api/v1/ml/inspections
+     */
+    @GetMapping
+    public ResponseEntity<List<AutoInspectionScheduler.StationStatus>> getStatus() {
+        return ResponseEntity.ok(autoInspectionScheduler.getStatus());
+    }
+
+    /**
+     * 서비스 타입별 최근 결과 10건
+     * GET /api/v1/ml/inspections/{serviceType}/latest
+     */
+    @GetMapping("/{serviceType}/latest")
+    public ResponseEntity<List<MLAnalysisResult>> getLatest(@PathVariable String serviceType) {
+        return ResponseEntity.ok(mlAnalysisResultRepository.findTop10ByServiceTypeOrderByCreatedDateDesc(serviceType));
+    }
+
+    /**
+     * 검사 완료 스트림 ("inspection" 이벤트)
+     * GET /api/v1/ml/inspections/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return inspectionStreamService.subscribe();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.dto.MLJobResponse;
+import com.example.automobile_risk.service.MLJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.Supplier;
+
+/**
+ * ML 비동기 검사 작업 컨트롤러
+ * POST 는 즉시 202 + jobId 를 반환하고, 결과는 GET /jobs/{id} 또는 /jobs/{id}/stream(SSE)으로 받는다.
+ */
+@RestController
+@RequestMapping("/api/v1/ml/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class MLJobController {
+
+    private final MLJobService mlJobService;
+
+    /**
+     * 윈드실드 분석 작업
+     * POST /api/v1/ml/jobs/windshield
+     */
+    @PostMapping("/windshield")
+    public ResponseEntity<MLJobResponse> submitWindshield(
+            @RequestParam("side") String side,
+            @RequestParam("file") MultipartFile file) {
+        return accepted(() -> mlJobService.submitWindshield(side, file));
+    }
+
+    /**
+     * 엔진 진동 분석 작업
+     * POST /api/v1/ml/jobs/engine
+     */
+    @PostMapping("/engine")
+    public ResponseEntity<MLJobResponse> submitEngine(@RequestParam("file") MultipartFile file) {
+        return accepted(() -> mlJobService.submitEngine(file));
+    }
+
+    /**
+     * 용접 이미지 분석 작업 (자동)
+     * POST /api/v1/ml/jobs/welding/image/auto
+     */
+    @PostMapping("/welding/image/auto")
+    public ResponseEntity<MLJobResponse> submitWeldingImageAuto(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        return accepted(() -> mlJobService.submitWeldingImageAuto(offset));
+    }
+
+    /**
+     * 도장 품질 분석 작업 (자동)
+     * POST /api/v1/ml/jobs/paint/auto
+     */
+    @PostMapping("/paint/auto")
+    public ResponseEntity<MLJobResponse> submitPaintAuto(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        return accepted(() -> mlJobService.submitPaintAuto(offset));
+    }
+
+    /**
+     * 프레스 진동 분석 작업
+     * POST /api/v1/ml/jobs/press/vibration
+     */
+    @PostMapping("/press/vibration")
+    public ResponseEntity<MLJobResponse> submitPressVibration(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        return accepted(() -> mlJobService.submitPressVibration(offset));
+    }
+
+    /**
+     * 프레스 이미지 분석 작업
+     * POST /api/v1/ml/jobs/press/image
+     */
+    @PostMapping("/press/image")
+    public ResponseEntity<MLJobResponse> submitPressImage(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        return accepted(() -> mlJobService.submitPressImage(offset));
+    }
+
+    /**
+     * 차체 조립 분석 작업 (자동 배치)
+     * POST /api/v1/ml/jobs/body/inspect/batch/auto
+     */
+    @PostMapping("/body/inspect/batch/auto")
+    public ResponseEntity<MLJobResponse> submitBodyAssemblyBatchAuto(
+            @RequestParam(value = "conf", required = false, defaultValue = "0.5") Double confidence,
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        return accepted(() -> mlJobService.submitBodyAssemblyBatchAuto(confidence, offset));
+    }
+
+    /**
+     * 작업 상태/결과 조회
+     * GET /api/v1/ml/jobs/{jobId}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<MLJobResponse> getJob(@PathVariable String jobId) {
+        return mlJobService.getJob(jobId)
+                .map(MLJobResponse::from)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 작업 결과 스트림 (완료 시 "result" 이벤트 1회)
+     * GET /api/v1/ml/jobs/{jobId}/stream
+     */
+    @GetMapping(value = "/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJob(@PathVariable String jobId) {
+        return mlJobService.getJob(jobId)
+                .map(mlJobService::subscribe)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 작업 큐가 가득 차 거절되면 MLServiceUnavailableException → 503 (ExceptionControllerAdvice)
+     */
+    private ResponseEntity<MLJobResponse> accepted(Supplier<MLJobService.MLJob> submission) {
+        MLJobService.MLJob job = submission.get();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(MLJobResponse.from(job));
+    }
+}
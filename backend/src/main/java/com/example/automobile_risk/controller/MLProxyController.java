@@ -4,6 +4,7 @@ import com.example.automobile_risk.service.MLProxyService;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -11,6 +12,7 @@ import org.springframework.web.multipart.MultipartFile;
 /**
  * ML 서비스 프록시 컨트롤러
  * Frontend → Spring Boot → FastAPI → DB 아키텍처 구현
+ * ML 서비스 사용 불가(MLServiceUnavailableException)는 ExceptionControllerAdvice 가 503 으로 응답
  */
 @RestController
 @RequestMapping("/api/v1/ml")
@@ -29,14 +31,9 @@ public class MLProxyController {
     public ResponseEntity<JsonNode> analyzeWindshield(
             @RequestParam("side") String side,
             @RequestParam("file") MultipartFile file) {
-        try {
-            log.info("Windshield analysis request - side: {}, file: {}", side, file.getOriginalFilename());
-            JsonNode result = mlProxyService.analyzeWindshield(side, file);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in windshield analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+        log.info("Windshield analysis request - side: {}, file: {}", side, file.getOriginalFilename());
+        JsonNode result = mlProxyService.analyzeWindshield(side, file);
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -46,14 +43,9 @@ public class MLProxyController {
     @PostMapping("/engine")
     public ResponseEntity<JsonNode> analyzeEngine(
             @RequestParam("file") MultipartFile file) {
-        try {
-            log.info("Engine analysis request - file: {}", file.getOriginalFilename());
-            JsonNode result = mlProxyService.analyzeEngine(file);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in engine analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+        log.info("Engine analysis request - file: {}", file.getOriginalFilename());
+        JsonNode result = mlProxyService.analyzeEngine(file);
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -62,15 +54,10 @@ public class MLProxyController {
      */
     @PostMapping("/welding/image/auto")
     public ResponseEntity<JsonNode> analyzeWeldingImageAuto(
-            @RequestParam(value = "offset", required = false, defaultValue = "0") Integer offset) {
-        try {
-            log.info("Welding image auto analysis request - offset: {}", offset);
-            JsonNode result = mlProxyService.analyzeWeldingImageAuto(offset);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in welding image analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        log.info("Welding image auto analysis request - offset: {}", offset);
+        JsonNode result = mlProxyService.analyzeWeldingImageAuto(offset);
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -79,15 +66,10 @@ public class MLProxyController {
      */
     @PostMapping("/paint/auto")
     public ResponseEntity<JsonNode> analyzePaintAuto(
-            @RequestParam(value = "offset", required = false, defaultValue = "0") Integer offset) {
-        try {
-            log.info("Paint auto analysis request - offset: {}", offset);
-            JsonNode result = mlProxyService.analyzePaintAuto(offset);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in paint analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        log.info("Paint auto analysis request - offset: {}", offset);
+        JsonNode result = mlProxyService.analyzePaintAuto(offset);
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -95,16 +77,11 @@ public class MLProxyController {
      * POST /api/v1/ml/press/vibration
      */
     @PostMapping("/press/vibration")
-    public ResponseEntity<JsonNode> analyzePressVibration(
-            @RequestParam(value = "offset", required = false, defaultValue = "0") Integer offset) {
-        try {
-            log.info("Press vibration analysis request - offset: {}", offset);
-            JsonNode result = mlProxyService.analyzePressVibration(offset);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in press vibration analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+    public ResponseEntity<byte[]> analyzePressVibration(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        log.info("Press vibration analysis request - offset: {}", offset);
+        byte[] result = mlProxyService.analyzePressVibrationRaw(offset);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
     }
 
     /**
@@ -112,16 +89,11 @@ public class MLProxyController {
      * POST /api/v1/ml/press/image
      */
     @PostMapping("/press/image")
-    public ResponseEntity<JsonNode> analyzePressImage(
-            @RequestParam(value = "offset", required = false, defaultValue = "0") Integer offset) {
-        try {
-            log.info("Press image analysis request - offset: {}", offset);
-            JsonNode result = mlProxyService.analyzePressImage(offset);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in press image analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+    public ResponseEntity<byte[]> analyzePressImage(
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        log.info("Press image analysis request - offset: {}", offset);
+        byte[] result = mlProxyService.analyzePressImageRaw(offset);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
     }
 
     /**
@@ -129,17 +101,12 @@ public class MLProxyController {
      * POST /api/v1/ml/body/inspect/batch/auto
      */
     @PostMapping("/body/inspect/batch/auto")
-    public ResponseEntity<JsonNode> analyzeBodyAssemblyBatchAuto(
+    public ResponseEntity<byte[]> analyzeBodyAssemblyBatchAuto(
             @RequestParam(value = "conf", required = false, defaultValue = "0.5") Double confidence,
-            @RequestParam(value = "offset", required = false, defaultValue = "0") Integer offset) {
-        try {
-            log.info("Body assembly batch auto analysis request - confidence: {}, offset: {}", confidence, offset);
-            JsonNode result = mlProxyService.analyzeBodyAssemblyBatchAuto(confidence, offset);
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error in body assembly analysis: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().build();
-        }
+            @RequestParam(value = "offset", required = false) Integer offset) {
+        log.info("Body assembly batch auto analysis request - confidence: {}, offset: {}", confidence, offset);
+        byte[] result = mlProxyService.analyzeBodyAssemblyBatchAutoRaw(confidence, offset);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(result);
     }
 
     /**
@@ -0,0 +1,51 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.dto.MLResultPageResponse;
+import com.example.automobile_risk.dto.MLResultStatsResponse;
+import com.example.automobile_risk.service.MLResultQueryService;
+import com.example.automobile_risk.service.MLResultRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ML 분석 결과 이력/통계 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/ml/results")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class MLResultController {
+
+    private final MLResultQueryService mlResultQueryService;
+    private final MLResultRollupService mlResultRollupService;
+
+    /**
+     * 서비스 타입별 결과 이력 (최신순, keyset 페이지)
+     * GET /api/v1/ml/results/{serviceType}?cursor=&size=20
+     */
+    @GetMapping("/{serviceType}")
+    public ResponseEntity<MLResultPageResponse> getHistory(
+            @PathVariable String serviceType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+        return ResponseEntity.ok(mlResultQueryService.getHistory(serviceType, cursor, size));
+    }
+
+    /**
+     * 서비스 타입별 시간별 통계 (건수, 이상 비율, confidence/reconstruction error 백분위)
+     * GET /api/v1/ml/results/{serviceType}/stats?from=&to=  (기본: 최근 24시간)
+     */
+    @GetMapping("/{serviceType}/stats")
+    public ResponseEntity<MLResultStatsResponse> getStats(
+            @PathVariable String serviceType,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        return ResponseEntity.ok(mlResultRollupService.getStats(serviceType, start, end));
+    }
+}
@@ -2,14 +2,18 @@ package com.example.automobile_risk.controller;
 
 import com.example.automobile_risk.controller.dto.OrderCreateForm;
 import com.example.automobile_risk.controller.dto.OrderUpdateForm;
+import com.example.automobile_risk.entity.enumclass.OrderStatus;
 import com.example.automobile_risk.service.OrderService;
 import com.example.automobile_risk.service.dto.OrderDetailResponse;
 import com.example.automobile_risk.service.dto.OrderListResponse;
+import com.example.automobile_risk.service.dto.OrderPageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -84,4 +88,21 @@ public class OrderController {
 
         return ApiResponse.of(orderListResponseList);
     }
+
+    /**
+     *  6. 주문 목록 페이지 조회 (납기 빠른 순, keyset)
+     *  GET /api/v1/order/page?status=&dueFrom=&dueTo=&cursor=&size=20
+     */
+    @GetMapping("/page")
+    public ApiResponse<OrderPageResponse> getOrderPage(
+            @RequestParam(value = "status", required = false) OrderStatus status,
+            @RequestParam(value = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @RequestParam(value = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+
+        OrderPageResponse orderPageResponse = orderService.getOrderPage(status, dueFrom, dueTo, cursor, size);
+
+        return ApiResponse.of(orderPageResponse);
+    }
 }
@@ -1,14 +1,24 @@
 package com.example.automobile_risk.controller;
 
+import com.example.automobile_risk.dto.DefectHeatmapResponse;
+import com.example.automobile_risk.dto.PaintAnalysisPageResponse;
 import com.example.automobile_risk.dto.PaintAnalysisResponse;
+import com.example.automobile_risk.dto.PaintBatchSaveResponse;
+import com.example.automobile_risk.dto.PaintDailyStatisticResponse;
 import com.example.automobile_risk.dto.PaintStatisticsResponse;
 import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.service.DefectHeatmapService;
 import com.example.automobile_risk.service.PaintAnalysisService;
+import com.example.automobile_risk.service.PaintDailyStatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/paint-analysis")
@@ -17,6 +27,8 @@ import java.util.List;
 public class PaintAnalysisController {
     
     private final PaintAnalysisService paintAnalysisService;
+    private final PaintDailyStatisticsService paintDailyStatisticsService;
+    private final DefectHeatmapService defectHeatmapService;
     
     /**
      * 전체 분석 이력 조회
@@ -27,6 +39,17 @@ public class PaintAnalysisController {
         return ResponseEntity.ok(history);
     }
     
+    /**
+     * 분석 이력 페이지 조회 (최신순, keyset)
+     * GET /api/paint-analysis/history/page?cursor=&size=20
+     */
+    @GetMapping("/history/page")
+    public ResponseEntity<PaintAnalysisPageResponse> getAnalysisHistoryPage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+        return ResponseEntity.ok(paintAnalysisService.getAnalysisHistoryPage(cursor, size));
+    }
+    
     /**
      * 특정 분석 결과 상세 조회
      */
@@ -46,6 +69,60 @@ public class PaintAnalysisController {
         return ResponseEntity.ok(statistics);
     }
     
+    /**
+     * 일일 통계 조회 (기본: 최근 30일, facility 없으면 전체 시설)
+     * GET /api/paint-analysis/statistics/daily?from=2024-01-01&to=2024-01-31&facility=
+     */
+    @GetMapping("/statistics/daily")
+    public ResponseEntity<List<PaintDailyStatisticResponse>> getDailyStatistics(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "facility", required = false) String facility) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(paintDailyStatisticsService.getDailyStatistics(start, end, facility));
+    }
+    
+    /**
+     * 일일 통계 재계산 (원본 결과/결함 기준으로 기간 덮어쓰기, 전날까지, 최대 backfill-max-days 일)
+     * POST /api/paint-analysis/statistics/daily/backfill?from=2024-01-01&to=2024-01-31
+     */
+    @PostMapping("/statistics/daily/backfill")
+    public ResponseEntity<Map<String, Object>> backfillDailyStatistics(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now().minusDays(1);
+        int days = paintDailyStatisticsService.backfill(from, end);
+        return ResponseEntity.ok(Map.of("from", from, "to", from.plusDays(days - 1L), "days", days));
+    }
+    
+    /**
+     * 결함 위치 히트맵 조회 (기본: 최근 24시간, defectClass 없으면 전체 유형)
+     * GET /api/paint-analysis/heatmap?location=도장실-A&defectClass=&from=&to=&bucket=HOUR
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<DefectHeatmapResponse> getDefectHeatmap(
+            @RequestParam("location") String location,
+            @RequestParam(value = "defectClass", required = false) String defectClass,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "bucket", required = false) String bucket) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusHours(24);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다: " + start + " > " + end);
+        }
+        return ResponseEntity.ok(defectHeatmapService.getHeatmap(location, defectClass, start, end, bucket));
+    }
+    
+    /**
+     * 히트맵이 있는 위치 코드 목록
+     */
+    @GetMapping("/heatmap/locations")
+    public ResponseEntity<List<String>> getHeatmapLocations() {
+        return ResponseEntity.ok(defectHeatmapService.getLocationCodes());
+    }
+    
     /**
      * 분석 결과 저장 (Python ML 서비스에서 호출)
      */
@@ -56,4 +133,13 @@ public class PaintAnalysisController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.status(500).build());
     }
+    
+    /**
+     * 분석 결과 일괄 저장 (Python ML 서비스에서 호출, resultId 기준 멱등)
+     * 응답은 resultId 별 id / 상태(CREATED, DUPLICATE)만 반환
+     */
+    @PostMapping("/save/batch")
+    public ResponseEntity<PaintBatchSaveResponse> saveAnalysisResults(@RequestBody List<PaintAnalysisResult> results) {
+        return ResponseEntity.ok(paintAnalysisService.saveAnalysisResults(results));
+    }
 }
@@ -0,0 +1,38 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DefectHeatmapResponse {
+    private String locationCode;
+    private String defectClass;             // null 이면 전체 결함 유형
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int gridColumns;
+    private int gridRows;
+    private long defectCount;
+    private int maxCellCount;               // 색상 스케일 기준
+    private int[] cells;                    // 구간 전체 합계, index = row * gridColumns + column
+    private Map<String, Long> defectsByType;
+    private List<Frame> frames;             // bucket 지정 시 시간 구간별 (결함이 있는 구간만)
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Frame {
+        private LocalDateTime bucketStart;
+        private long defectCount;
+        private int[] cells;
+    }
+}
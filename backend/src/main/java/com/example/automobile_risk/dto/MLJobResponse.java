@@ -0,0 +1,34 @@
+package com.example.automobile_risk.dto;
+
+import com.example.automobile_risk.service.MLJobService;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MLJobResponse {
+    private String jobId;
+    private String serviceType;
+    private String status;          // PENDING, RUNNING, DONE, FAILED
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    private JsonNode result;        // DONE 일 때만
+    private String error;           // FAILED 일 때만
+
+    public static MLJobResponse from(MLJobService.MLJob job) {
+        return MLJobResponse.builder()
+                .jobId(job.getId())
+                .serviceType(job.getServiceType())
+                .status(job.getStatus().name())
+                .submittedAt(job.getSubmittedAt())
+                .completedAt(job.getCompletedAt())
+                .result(job.getResult())
+                .error(job.getError())
+                .build();
+    }
+}
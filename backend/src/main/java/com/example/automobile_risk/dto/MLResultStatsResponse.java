@@ -0,0 +1,39 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MLResultStatsResponse {
+    private String serviceType;
+    private Bucket total;           // 조회 구간 전체
+    private List<Bucket> hourly;    // 시간별 (결과가 있는 시간만)
+
+    /**
+     *  백분위는 히스토그램 구간 상한값 (근사치)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime hourStart;        // total 은 null
+        private long count;
+        private long anomalyCount;
+        private Double anomalyRate;
+        private Double confidenceP50;
+        private Double confidenceP90;
+        private Double confidenceP99;
+        private Double reconstructionErrorP50;
+        private Double reconstructionErrorP90;
+        private Double reconstructionErrorP99;
+    }
+}
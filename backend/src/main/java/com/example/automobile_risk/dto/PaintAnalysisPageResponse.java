@@ -0,0 +1,15 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintAnalysisPageResponse {
+    private List<PaintAnalysisResponse> items;
+    private String nextCursor;      // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+}
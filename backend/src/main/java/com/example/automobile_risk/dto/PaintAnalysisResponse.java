@@ -16,6 +16,7 @@ public class PaintAnalysisResponse {
     private String imageFilename;
     private String imageUrl;
     private String resultImageUrl;
+    private String thumbnailUrl;        // 목록/갤러리용 (로컬 이미지 저장소 이미지만, 아니면 null)
     private String status;
     private String primaryDefectType;
     private Double confidence;
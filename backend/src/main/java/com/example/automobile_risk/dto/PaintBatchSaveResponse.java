@@ -0,0 +1,25 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintBatchSaveResponse {
+    private int created;
+    private int duplicates;
+    private List<Item> items;       // 요청 순서 그대로
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String resultId;
+        private Long id;
+        private String status;      // 'CREATED', 'DUPLICATE'
+    }
+}
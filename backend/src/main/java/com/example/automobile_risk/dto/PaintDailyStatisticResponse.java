@@ -0,0 +1,28 @@
+package com.example.automobile_risk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintDailyStatisticResponse {
+    private LocalDate statDate;
+    private String facilityName;
+    private Long totalInspections;
+    private Long passedInspections;
+    private Long failedInspections;
+    private Long warningInspections;
+    private Long defectCount;
+    private Double defectRate;              // 불량 검사 비율 (%)
+    private Double avgConfidence;
+    private Double minConfidence;
+    private Double maxConfidence;
+    private Map<String, Long> defectsByType;
+}
@@ -6,8 +6,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ *  일별 대시보드 집계 (DashboardHistoryRollupService 가 하루 한 행을 upsert)
+ */
 @Entity
-@Table(name = "dashboard_history")
+@Table(name = "dashboard_history",
+        indexes = @Index(name = "idx_dashboard_history_stat_date", columnList = "stat_date", unique = true))
 @Data
 @Builder
 @NoArgsConstructor
@@ -17,6 +24,14 @@ public class DashboardHistory {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String date; // e.g., '1/5'
-    private Double totalDelay;
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    private Double totalDelay;           // 예측 지연 합계 (h)
+    private Integer anomalyCount;
+    private Integer warningCount;
+    private Double overallEfficiency;
+    private Double productionEfficiency;
+
+    private LocalDateTime aggregatedAt;  // 마지막 집계 시각
 }
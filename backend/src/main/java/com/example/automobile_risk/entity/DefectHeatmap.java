@@ -0,0 +1,46 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ *  도장 결함 위치 히트맵 (위치 × 결함 유형 × 시간, DefectHeatmapService 가 결과 저장 시 증분 반영)
+ *  이미지를 고정 격자로 나눠 bbox 중심이 속한 칸의 건수를 행 우선(row-major) 배열로 보관한다.
+ */
+@Entity
+@Table(name = "defect_heatmaps",
+        uniqueConstraints = @UniqueConstraint(name = "uk_defect_heatmaps_location_class_hour",
+                columnNames = {"location_code", "defect_class", "hour_start"}),
+        indexes = @Index(name = "idx_defect_heatmaps_location_hour", columnList = "location_code, hour_start"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DefectHeatmap {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "location_code", nullable = false)
+    private String locationCode;
+
+    @Column(name = "defect_class", nullable = false)
+    private String defectClass;
+
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;             // 집계 구간 시작 (정시)
+
+    @Column(name = "defect_count")
+    private long defectCount;
+
+    @Column(name = "cells", nullable = false)
+    private int[] cells;                         // GRID_ROWS × GRID_COLUMNS, index = row * GRID_COLUMNS + column
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
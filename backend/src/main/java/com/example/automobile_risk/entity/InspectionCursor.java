@@ -0,0 +1,34 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ *  자동 검사 스테이션별 offset 커서
+ *  nextOffset 미만은 모두 분석 완료 → 재시작 시 여기서부터 이어서 검사한다.
+ */
+@Entity
+@Table(name = "inspection_cursors",
+        indexes = @Index(name = "idx_inspection_cursors_station", columnList = "station", unique = true))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InspectionCursor {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String station;              // MLEndpoint key (welding-image, paint, ...)
+
+    @Column(nullable = false)
+    private Long nextOffset;
+
+    private LocalDateTime updatedAt;
+}
@@ -3,8 +3,13 @@ package com.example.automobile_risk.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Set;
+
 @Entity
-@Table(name = "ml_analysis_results")
+@Table(name = "ml_analysis_results", indexes = {
+        @Index(name = "idx_ml_analysis_results_input_hash", columnList = "input_hash"),
+        @Index(name = "idx_ml_analysis_results_service_created", columnList = "service_type, created_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,8 +17,14 @@ import lombok.*;
 @Builder
 public class MLAnalysisResult extends BaseTimeEntity {
 
+    private static final Set<String> ANOMALY_STATUSES = Set.of("ABNORMAL", "FAIL", "DEFECT", "ANOMALY", "NG");
+
+    /**
+     * 시퀀스 id (insert 를 JDBC batch 로 묶기 위해 IDENTITY 대신 사용, 50개씩 선할당)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ml_analysis_results_seq")
+    @SequenceGenerator(name = "ml_analysis_results_seq", sequenceName = "ml_analysis_results_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -65,6 +76,12 @@ public class MLAnalysisResult extends BaseTimeEntity {
     @Column(length = 500)
     private String resultImageUrl;
 
+    /**
+     * 목록/갤러리용 썸네일 URL (저장하지 않음, 이력 조회 시 채움)
+     */
+    @Transient
+    private String thumbnailUrl;
+
     /**
      * 추가 정보 (JSON 형태)
      */
@@ -87,4 +104,24 @@ public class MLAnalysisResult extends BaseTimeEntity {
      */
     @Column(length = 500)
     private String message;
+
+    /**
+     * 입력 해시 (SHA-256: 엔드포인트 + 파라미터 + 업로드 바이트), 추론 결과 캐시 키
+     */
+    @Column(length = 64)
+    private String inputHash;
+
+    /**
+     * 이상 여부: is_anomaly 가 있으면 그 값, 없으면 판정 상태(ABNORMAL/FAIL/DEFECT 등),
+     * 도장은 판정이 중첩 data 안에 있어 메시지("defect detected")로 판단
+     */
+    public boolean isAnomalous() {
+        if (isAnomaly != null) {
+            return isAnomaly == 1;
+        }
+        if (status != null && ANOMALY_STATUSES.contains(status.toUpperCase())) {
+            return true;
+        }
+        return "defect detected".equalsIgnoreCase(message);
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ *  ML 분석 결과 시간별 집계 (MLResultRollupService 가 결과 저장 시 증분 반영)
+ *  백분위는 고정 구간 히스토그램(bucket 별 건수)으로 보관한다.
+ */
+@Entity
+@Table(name = "ml_result_hourly_stats",
+        indexes = @Index(name = "idx_ml_result_hourly_stats_service_hour", columnList = "service_type, hour_start", unique = true))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MLResultHourlyStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String serviceType;
+
+    @Column(nullable = false)
+    private LocalDateTime hourStart;             // 집계 구간 시작 (정시)
+
+    private long count;
+    private long anomalyCount;
+
+    private int[] confidenceBuckets;             // [0,1] 을 0.05 간격 20구간
+    private int[] reconstructionErrorBuckets;    // 1e-4 부터 2배씩 증가하는 구간 + 초과 구간
+
+    private LocalDateTime updatedAt;
+}
@@ -13,7 +13,10 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(access = AccessLevel.PRIVATE)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_due_date", columnList = "due_date, order_id"),
+        @Index(name = "idx_orders_status_due_date", columnList = "order_status, due_date, order_id")
+})
 @Entity
 public class Order extends BaseTimeEntity {
 
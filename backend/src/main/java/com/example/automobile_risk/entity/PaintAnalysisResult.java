@@ -9,14 +9,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "paint_analysis_results")
+@Table(name = "paint_analysis_results", indexes = {
+        @Index(name = "idx_paint_analysis_results_analyzed_at", columnList = "analyzed_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class PaintAnalysisResult {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paint_analysis_results_seq")
+    @SequenceGenerator(name = "paint_analysis_results_seq", sequenceName = "paint_analysis_results_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "result_id", unique = true, nullable = false)
@@ -41,6 +44,12 @@ public class PaintAnalysisResult {
     @Column(name = "image_size_kb")
     private Integer imageSizeKb;
     
+    @Column(name = "image_width")
+    private Integer imageWidth;
+    
+    @Column(name = "image_height")
+    private Integer imageHeight;
+    
     // 분석 결과
     @Column(name = "status", nullable = false)
     private String status; // 'PASS', 'FAIL', 'WARNING'
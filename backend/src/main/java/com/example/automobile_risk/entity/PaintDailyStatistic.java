@@ -0,0 +1,86 @@
+package com.example.automobile_risk.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ *  도장 검사 일일 통계 (PAINT_DB_DESIGN.md 의 daily_statistics)
+ *  - 분석 결과 저장 시 (stat_date, facility_name) 행에 upsert 로 증분 반영
+ *  - 평균 신뢰도/결함률은 합계·건수로 보관하고 조회 시 계산 (증분 갱신 가능하도록)
+ *  - 결함 유형별 건수는 도장 모델 클래스(orange_peel, runs_sags, solvent_pop, water_spotting) 고정 컬럼, 그 외는 other
+ */
+@Entity
+@Table(name = "daily_statistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_statistics_date_facility",
+                columnNames = {"stat_date", "facility_name"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaintDailyStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "facility_name", nullable = false)
+    private String facilityName;                // 분석 결과의 locationCode
+
+    // 검사 통계
+    @Column(name = "total_inspections")
+    private long totalInspections;
+
+    @Column(name = "passed_inspections")
+    private long passedInspections;
+
+    @Column(name = "failed_inspections")
+    private long failedInspections;
+
+    @Column(name = "warning_inspections")
+    private long warningInspections;
+
+    // 결함 통계
+    @Column(name = "defect_count")
+    private long defectCount;
+
+    // 결함 유형별 집계
+    @Column(name = "defect_orange_peel")
+    private long defectOrangePeel;
+
+    @Column(name = "defect_runs_sags")
+    private long defectRunsSags;
+
+    @Column(name = "defect_solvent_pop")
+    private long defectSolventPop;
+
+    @Column(name = "defect_water_spotting")
+    private long defectWaterSpotting;
+
+    @Column(name = "defect_other")
+    private long defectOther;
+
+    // 신뢰도 통계
+    @Column(name = "confidence_count")
+    private long confidenceCount;
+
+    @Column(name = "confidence_sum")
+    private double confidenceSum;
+
+    @Column(name = "min_confidence")
+    private Double minConfidence;
+
+    @Column(name = "max_confidence")
+    private Double maxConfidence;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
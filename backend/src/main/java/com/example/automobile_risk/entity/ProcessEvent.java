@@ -71,4 +71,11 @@ public class ProcessEvent extends BaseTimeEntity {
                 .source(source)
                 .build();
     }
+
+    /**
+     *  같은 이상이 반복 검출됨 → 영향 수량 누적
+     */
+    public void addAffected(int qty) {
+        this.qtyAffected += qty;
+    }
 }
@@ -2,6 +2,7 @@ package com.example.automobile_risk.exception;
 
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -19,6 +20,14 @@ public class ExceptionControllerAdvice {
         return new ErrorResponse("BAD Args", e.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ErrorResponse invalidCursorExceptionHandler(InvalidCursorException e) {
+        log.warn("Invalid cursor: {}", e.getMessage());
+
+        return new ErrorResponse("Invalid Cursor", e.getMessage());
+    }
+
     @ResponseStatus
     @ExceptionHandler(IllegalStateException.class)
     public ErrorResponse illegalStateExceptionHandler(IllegalStateException e) {
@@ -40,4 +49,12 @@ public class ExceptionControllerAdvice {
 
         return new ErrorResponse("Duplicate Bom", e.getMessage());
     }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(MLServiceUnavailableException.class)
+    public ErrorResponse mlServiceUnavailableExceptionHandler(MLServiceUnavailableException e) {
+        log.warn("ML service unavailable: {}", e.getMessage());
+
+        return new ErrorResponse("ML Service Unavailable", e.getMessage());
+    }
 }
@@ -0,0 +1,20 @@
+package com.example.automobile_risk.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException() {
+        super();
+    }
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("잘못된 cursor 입니다: " + cursor, cause);
+    }
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(Throwable cause) {
+        super(cause);
+    }
+}
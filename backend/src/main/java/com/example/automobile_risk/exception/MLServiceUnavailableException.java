@@ -0,0 +1,29 @@
+package com.example.automobile_risk.exception;
+
+public class MLServiceUnavailableException extends RuntimeException {
+
+    public MLServiceUnavailableException() {
+        super();
+    }
+
+    public MLServiceUnavailableException(String endpoint, String reason) {
+        super("ML service unavailable. endpoint=" + endpoint + ", reason=" + reason);
+    }
+
+    public MLServiceUnavailableException(String message) {
+        super(message);
+    }
+
+
+    public MLServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public MLServiceUnavailableException(Throwable cause) {
+        super(cause);
+    }
+
+    protected MLServiceUnavailableException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
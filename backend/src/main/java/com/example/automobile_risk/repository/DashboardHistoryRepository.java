@@ -2,8 +2,14 @@ package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.DashboardHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface DashboardHistoryRepository extends JpaRepository<DashboardHistory, Long> {
-    List<DashboardHistory> findAllByOrderByIdAsc();
+
+    Optional<DashboardHistory> findByStatDate(LocalDate statDate);
+
+    List<DashboardHistory> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
 }
@@ -0,0 +1,62 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.DefectHeatmap;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DefectHeatmapRepository extends JpaRepository<DefectHeatmap, Long> {
+
+    /**
+     *  (location, defect_class, hour_start) 행이 없으면 빈 격자로 생성 (동시 생성 시 한 쪽은 무시)
+     */
+    @Modifying
+    @Query(value = """
+        insert into defect_heatmaps (location_code, defect_class, hour_start, defect_count, cells, updated_at)
+        values (:locationCode, :defectClass, :hourStart, 0, array_fill(0, array[:cellCount]), localtimestamp)
+        on conflict (location_code, defect_class, hour_start) do nothing
+        """, nativeQuery = true)
+    void insertIfAbsent(@Param("locationCode") String locationCode,
+                        @Param("defectClass") String defectClass,
+                        @Param("hourStart") LocalDateTime hourStart,
+                        @Param("cellCount") int cellCount);
+
+    /**
+     *  증분 반영용 행 잠금 조회 (SELECT ... FOR UPDATE)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from DefectHeatmap h where h.locationCode = :locationCode and h.defectClass = :defectClass and h.hourStart = :hourStart")
+    Optional<DefectHeatmap> findForUpdate(@Param("locationCode") String locationCode,
+                                          @Param("defectClass") String defectClass,
+                                          @Param("hourStart") LocalDateTime hourStart);
+
+    @Query("""
+        select h from DefectHeatmap h
+        where h.locationCode = :locationCode and h.hourStart >= :from and h.hourStart < :to
+        order by h.hourStart asc
+        """)
+    List<DefectHeatmap> findByLocation(@Param("locationCode") String locationCode,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query("""
+        select h from DefectHeatmap h
+        where h.locationCode = :locationCode and h.defectClass = :defectClass
+          and h.hourStart >= :from and h.hourStart < :to
+        order by h.hourStart asc
+        """)
+    List<DefectHeatmap> findByLocationAndDefectClass(@Param("locationCode") String locationCode,
+                                                     @Param("defectClass") String defectClass,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    @Query("select distinct h.locationCode from DefectHeatmap h order by h.locationCode")
+    List<String> findLocationCodes();
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,9 +14,11 @@ public interface DetectedDefectRepository extends JpaRepository<DetectedDefect,
     
     List<DetectedDefect> findByResultId(String resultId);
     
+    /**
+     * 여러 분석 결과의 결함을 한 번에 조회 (이력 페이지 N+1 방지)
+     */
+    List<DetectedDefect> findByResultIdIn(Collection<String> resultIds);
+    
     @Query("SELECT COUNT(d) FROM DetectedDefect d WHERE d.detectedAt >= :startDate")
     Long countByDetectedAtAfter(LocalDateTime startDate);
-    
-    @Query("SELECT d.defectClass, COUNT(d) FROM DetectedDefect d WHERE d.detectedAt >= :startDate GROUP BY d.defectClass")
-    List<Object[]> countByDefectTypeAfter(LocalDateTime startDate);
 }
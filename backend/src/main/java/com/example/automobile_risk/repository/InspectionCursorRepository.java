@@ -0,0 +1,13 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.InspectionCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface InspectionCursorRepository extends JpaRepository<InspectionCursor, Long> {
+
+    Optional<InspectionCursor> findByStation(String station);
+}
@@ -1,26 +1,53 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.MLAnalysisResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MLAnalysisResultRepository extends JpaRepository<MLAnalysisResult, Long> {
 
     /**
-     * 서비스 타입별 결과 조회
+     * 서비스 타입별 최신 결과 첫 페이지 (idx_ml_analysis_results_service_created 사용)
      */
-    List<MLAnalysisResult> findByServiceTypeOrderByCreatedDateDesc(String serviceType);
+    List<MLAnalysisResult> findByServiceTypeOrderByCreatedDateDescIdDesc(String serviceType, Pageable pageable);
 
     /**
-     * 서비스 타입과 상태별 결과 조회
+     * 서비스 타입별 다음 페이지 (keyset: 직전 페이지 마지막 행의 (createdDate, id) 이후)
      */
-    List<MLAnalysisResult> findByServiceTypeAndStatusOrderByCreatedDateDesc(String serviceType, String status);
+    @Query("select r from MLAnalysisResult r " +
+            "where r.serviceType = :serviceType " +
+            "and (r.createdDate < :createdDate or (r.createdDate = :createdDate and r.id < :id)) " +
+            "order by r.createdDate desc, r.id desc")
+    List<MLAnalysisResult> findPageAfter(@Param("serviceType") String serviceType,
+                                         @Param("createdDate") LocalDateTime createdDate,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
 
     /**
      * 최근 N개 결과 조회
      */
     List<MLAnalysisResult> findTop10ByServiceTypeOrderByCreatedDateDesc(String serviceType);
+
+    /**
+     * 같은 입력(해시)의 가장 최근 결과 조회
+     */
+    Optional<MLAnalysisResult> findFirstByInputHashOrderByIdDesc(String inputHash);
+
+    /**
+     * 이미지 URL 교체 (로컬 이미지 저장소로 복사 후)
+     */
+    @Modifying
+    @Query("update MLAnalysisResult r set r.originalImageUrl = :originalImageUrl, r.resultImageUrl = :resultImageUrl where r.id = :id")
+    int updateImageUrls(@Param("id") Long id,
+                        @Param("originalImageUrl") String originalImageUrl,
+                        @Param("resultImageUrl") String resultImageUrl);
 }
@@ -0,0 +1,16 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.MLResultHourlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface MLResultHourlyStatRepository extends JpaRepository<MLResultHourlyStat, Long> {
+
+    Optional<MLResultHourlyStat> findByServiceTypeAndHourStart(String serviceType, LocalDateTime hourStart);
+
+    List<MLResultHourlyStat> findByServiceTypeAndHourStartBetweenOrderByHourStartAsc(
+            String serviceType, LocalDateTime from, LocalDateTime to);
+}
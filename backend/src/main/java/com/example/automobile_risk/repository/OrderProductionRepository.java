@@ -1,6 +1,8 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.OrderProduction;
+import com.example.automobile_risk.entity.enumclass.ProductionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -42,6 +44,18 @@ public interface OrderProductionRepository extends JpaRepository<OrderProduction
     """)
     List<OrderProduction> findWithOrderByProductionId(@Param("productionId") Long productionId);
 
+    /**
+     *  현재 라인에서 생산 중인 주문 id (가장 먼저 시작한 생산, 납기 빠른 주문 순)
+     *  ML 검사 결과를 어느 주문의 공정 이벤트로 기록할지 정할 때 사용
+     */
+    @Query("""
+        select op.order.id
+        from OrderProduction op
+        where op.production.productionStatus = :status
+        order by op.production.startDate asc, op.order.dueDate asc
+    """)
+    List<Long> findOrderIdsByProductionStatus(@Param("status") ProductionStatus status, Pageable pageable);
+
     // 주문 기준 조회
     List<OrderProduction> findByOrderId(Long orderId);
 
@@ -1,10 +1,15 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.Order;
+import com.example.automobile_risk.entity.enumclass.OrderStatus;
+import com.example.automobile_risk.service.dto.OrderListResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -17,4 +22,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         where o.id = :orderId
     """)
     Optional<Order> findDetailById(@Param("orderId") Long orderId);
+
+    /**
+     *  주문 목록 (vehicleModel 조인 projection, 엔티티 로딩 없이 쿼리 1회)
+     */
+    @Query("""
+        select new com.example.automobile_risk.service.dto.OrderListResponse(
+            o.id, o.orderDate, o.dueDate, o.orderStatus, o.orderQty, vm.id, vm.modelName)
+        from Order o
+        join o.vehicleModel vm
+        order by o.id
+    """)
+    List<OrderListResponse> findListRows();
+
+    /**
+     *  주문 목록 페이지 (납기 빠른 순, keyset: 직전 페이지 마지막 행의 (dueDate, id) 이후)
+     *  필터/cursor 파라미터는 null 이면 조건 없음
+     */
+    @Query("""
+        select new com.example.automobile_risk.service.dto.OrderListResponse(
+            o.id, o.orderDate, o.dueDate, o.orderStatus, o.orderQty, vm.id, vm.modelName)
+        from Order o
+        join o.vehicleModel vm
+        where (:status is null or o.orderStatus = :status)
+          and (:dueFrom is null or o.dueDate >= :dueFrom)
+          and (:dueTo is null or o.dueDate < :dueTo)
+          and (:cursorDueDate is null
+               or o.dueDate > :cursorDueDate
+               or (o.dueDate = :cursorDueDate and o.id > :cursorId))
+        order by o.dueDate, o.id
+    """)
+    List<OrderListResponse> findListPage(@Param("status") OrderStatus status,
+                                         @Param("dueFrom") LocalDateTime dueFrom,
+                                         @Param("dueTo") LocalDateTime dueTo,
+                                         @Param("cursorDueDate") LocalDateTime cursorDueDate,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
 }
@@ -1,11 +1,14 @@
 package com.example.automobile_risk.repository;
 
 import com.example.automobile_risk.entity.PaintAnalysisResult;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,15 +21,110 @@ public interface PaintAnalysisResultRepository extends JpaRepository<PaintAnalys
     
     List<PaintAnalysisResult> findByAnalyzedAtBetween(LocalDateTime start, LocalDateTime end);
     
-    @Query("SELECT p FROM PaintAnalysisResult p ORDER BY p.analyzedAt DESC")
-    List<PaintAnalysisResult> findTop100ByOrderByAnalyzedAtDesc();
+    /**
+     * 이미 저장된 resultId 조회 (일괄 저장 중복 판단용, 엔티티 로딩 없이 키만)
+     */
+    @Query("SELECT p.resultId AS resultId, p.id AS id, p.status AS status FROM PaintAnalysisResult p WHERE p.resultId IN :resultIds")
+    List<ResultKey> findKeysByResultIdIn(@Param("resultIds") Collection<String> resultIds);
     
-    @Query("SELECT COUNT(p) FROM PaintAnalysisResult p WHERE p.analyzedAt >= :startDate")
-    Long countByAnalyzedAtAfter(LocalDateTime startDate);
+    /**
+     * 이력 첫 페이지 (최신순, Pageable 로 건수 제한)
+     */
+    @Query("SELECT p FROM PaintAnalysisResult p ORDER BY p.analyzedAt DESC, p.id DESC")
+    List<PaintAnalysisResult> findLatest(Pageable pageable);
     
-    @Query("SELECT COUNT(p) FROM PaintAnalysisResult p WHERE p.status = :status AND p.analyzedAt >= :startDate")
-    Long countByStatusAndAnalyzedAtAfter(String status, LocalDateTime startDate);
+    /**
+     * 이력 다음 페이지 (keyset: 직전 페이지 마지막 행의 (analyzedAt, id) 이후)
+     */
+    @Query("""
+        SELECT p FROM PaintAnalysisResult p
+        WHERE p.analyzedAt < :analyzedAt OR (p.analyzedAt = :analyzedAt AND p.id < :id)
+        ORDER BY p.analyzedAt DESC, p.id DESC
+    """)
+    List<PaintAnalysisResult> findPageAfter(@Param("analyzedAt") LocalDateTime analyzedAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
     
-    @Query("SELECT AVG(p.confidence) FROM PaintAnalysisResult p WHERE p.analyzedAt >= :startDate")
-    Double getAverageConfidenceAfter(LocalDateTime startDate);
+    /**
+     * 기간 집계 한 번에 조회 (상태별 건수 + 평균 신뢰도 + 결함 수)
+     */
+    @Query("""
+        SELECT COUNT(p) AS total,
+               SUM(CASE WHEN p.status = 'PASS' THEN 1 ELSE 0 END) AS passed,
+               SUM(CASE WHEN p.status = 'FAIL' THEN 1 ELSE 0 END) AS failed,
+               SUM(CASE WHEN p.status = 'WARNING' THEN 1 ELSE 0 END) AS warning,
+               COUNT(p.confidence) AS confidenceCount,
+               AVG(p.confidence) AS avgConfidence,
+               (SELECT COUNT(d) FROM DetectedDefect d WHERE d.detectedAt >= :startDate) AS defects
+        FROM PaintAnalysisResult p
+        WHERE p.analyzedAt >= :startDate
+    """)
+    PaintTotals aggregateAfter(@Param("startDate") LocalDateTime startDate);
+    
+    /**
+     * 기간 내 시설(locationCode)별 집계 (일일 통계 재계산용)
+     */
+    @Query("""
+        SELECT p.locationCode AS facility,
+               COUNT(p) AS total,
+               SUM(CASE WHEN p.status = 'PASS' THEN 1 ELSE 0 END) AS passed,
+               SUM(CASE WHEN p.status = 'FAIL' THEN 1 ELSE 0 END) AS failed,
+               SUM(CASE WHEN p.status = 'WARNING' THEN 1 ELSE 0 END) AS warning,
+               COUNT(p.confidence) AS confidenceCount,
+               SUM(p.confidence) AS confidenceSum,
+               MIN(p.confidence) AS minConfidence,
+               MAX(p.confidence) AS maxConfidence
+        FROM PaintAnalysisResult p
+        WHERE p.analyzedAt >= :start AND p.analyzedAt < :end
+        GROUP BY p.locationCode
+    """)
+    List<FacilityTotals> aggregateByFacility(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    /**
+     * 기간 내 시설별·결함 유형별 결함 수 (결함은 소속 분석 결과의 분석 시각 기준)
+     */
+    @Query("""
+        SELECT p.locationCode AS facility, d.defectClass AS defectClass, COUNT(d) AS count
+        FROM DetectedDefect d JOIN d.paintAnalysisResult p
+        WHERE p.analyzedAt >= :start AND p.analyzedAt < :end
+        GROUP BY p.locationCode, d.defectClass
+    """)
+    List<FacilityDefectCount> countDefectsByFacility(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    /**
+     * 기간 집계 결과 (행이 없으면 SUM/AVG 는 null)
+     */
+    interface PaintTotals {
+        Long getTotal();
+        Long getPassed();
+        Long getFailed();
+        Long getWarning();
+        Long getConfidenceCount();
+        Double getAvgConfidence();
+        Long getDefects();
+    }
+    
+    interface FacilityTotals {
+        String getFacility();
+        Long getTotal();
+        Long getPassed();
+        Long getFailed();
+        Long getWarning();
+        Long getConfidenceCount();
+        Double getConfidenceSum();
+        Double getMinConfidence();
+        Double getMaxConfidence();
+    }
+    
+    interface ResultKey {
+        String getResultId();
+        Long getId();
+        String getStatus();
+    }
+    
+    interface FacilityDefectCount {
+        String getFacility();
+        String getDefectClass();
+        Long getCount();
+    }
 }
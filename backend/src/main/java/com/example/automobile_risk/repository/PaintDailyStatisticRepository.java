@@ -0,0 +1,59 @@
+package com.example.automobile_risk.repository;
+
+import com.example.automobile_risk.entity.PaintDailyStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PaintDailyStatisticRepository extends JpaRepository<PaintDailyStatistic, Long> {
+
+    List<PaintDailyStatistic> findByStatDateBetweenOrderByStatDateAscFacilityNameAsc(LocalDate from, LocalDate to);
+
+    List<PaintDailyStatistic> findByFacilityNameAndStatDateBetweenOrderByStatDateAsc(String facilityName, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from PaintDailyStatistic s where s.statDate = :statDate")
+    int deleteByStatDate(@Param("statDate") LocalDate statDate);
+
+    /**
+     *  (stat_date, facility_name) 행에 증분 더하기, 없으면 생성 (동시 저장에도 원자적)
+     *  min/max 는 LEAST/GREATEST (PostgreSQL 은 NULL 을 무시)
+     */
+    @Modifying
+    @Query(value = """
+        insert into daily_statistics (
+            stat_date, facility_name,
+            total_inspections, passed_inspections, failed_inspections, warning_inspections,
+            defect_count, defect_orange_peel, defect_runs_sags, defect_solvent_pop, defect_water_spotting, defect_other,
+            confidence_count, confidence_sum, min_confidence, max_confidence, updated_at)
+        values (
+            :#{#delta.statDate}, :#{#delta.facilityName},
+            :#{#delta.totalInspections}, :#{#delta.passedInspections}, :#{#delta.failedInspections}, :#{#delta.warningInspections},
+            :#{#delta.defectCount}, :#{#delta.defectOrangePeel}, :#{#delta.defectRunsSags}, :#{#delta.defectSolventPop},
+            :#{#delta.defectWaterSpotting}, :#{#delta.defectOther},
+            :#{#delta.confidenceCount}, :#{#delta.confidenceSum},
+            cast(:#{#delta.minConfidence} as double precision), cast(:#{#delta.maxConfidence} as double precision),
+            :#{#delta.updatedAt})
+        on conflict (stat_date, facility_name) do update set
+            total_inspections = daily_statistics.total_inspections + excluded.total_inspections,
+            passed_inspections = daily_statistics.passed_inspections + excluded.passed_inspections,
+            failed_inspections = daily_statistics.failed_inspections + excluded.failed_inspections,
+            warning_inspections = daily_statistics.warning_inspections + excluded.warning_inspections,
+            defect_count = daily_statistics.defect_count + excluded.defect_count,
+            defect_orange_peel = daily_statistics.defect_orange_peel + excluded.defect_orange_peel,
+            defect_runs_sags = daily_statistics.defect_runs_sags + excluded.defect_runs_sags,
+            defect_solvent_pop = daily_statistics.defect_solvent_pop + excluded.defect_solvent_pop,
+            defect_water_spotting = daily_statistics.defect_water_spotting + excluded.defect_water_spotting,
+            defect_other = daily_statistics.defect_other + excluded.defect_other,
+            confidence_count = daily_statistics.confidence_count + excluded.confidence_count,
+            confidence_sum = daily_statistics.confidence_sum + excluded.confidence_sum,
+            min_confidence = least(daily_statistics.min_confidence, excluded.min_confidence),
+            max_confidence = greatest(daily_statistics.max_confidence, excluded.max_confidence),
+            updated_at = excluded.updated_at
+        """, nativeQuery = true)
+    void upsertIncrement(@Param("delta") PaintDailyStatistic delta);
+}
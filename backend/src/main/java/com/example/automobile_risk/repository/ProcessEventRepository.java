@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProcessEventRepository extends JpaRepository<ProcessEvent, Long> {
 
@@ -18,4 +20,26 @@ public interface ProcessEventRepository extends JpaRepository<ProcessEvent, Long
           and pe.resolvedAt is null
     """)
     List<ProcessEvent> findUnresolvedByOrderId(@Param("orderId") Long orderId);
+
+    Optional<ProcessEvent> findFirstByOrderIdAndEventCodeAndResolvedAtIsNullAndDetectedAtAfterOrderByDetectedAtDesc(
+            Long orderId, String eventCode, LocalDateTime detectedAfter);
+
+    /**
+     * 기간 내 검출된 이벤트 수 (severity >= 2 → 이상, 나머지 → 경고, 대시보드 기준과 동일)
+     */
+    @Query("""
+        SELECT SUM(CASE WHEN pe.severity >= 2 THEN 1 ELSE 0 END) AS anomalies,
+               SUM(CASE WHEN pe.severity IS NULL OR pe.severity < 2 THEN 1 ELSE 0 END) AS warnings
+        FROM ProcessEvent pe
+        WHERE pe.detectedAt >= :start AND pe.detectedAt < :end
+    """)
+    SeverityCounts countBySeverityBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    /**
+     * 기간 집계 결과 (행이 없으면 null)
+     */
+    interface SeverityCounts {
+        Long getAnomalies();
+        Long getWarnings();
+    }
 }
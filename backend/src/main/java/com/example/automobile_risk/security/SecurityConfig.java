@@ -26,6 +26,7 @@ public class SecurityConfig {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ServiceTokenAuthorizationManager serviceTokenAuthorizationManager;
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
@@ -54,6 +55,7 @@ public class SecurityConfig {
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/board/**").permitAll()
                         .requestMatchers("/api/v1/dashboard/**").permitAll() // Dashboard is public as per current FE
                         .requestMatchers("/api/v1/chatbot/**").permitAll() // Chatbot is public
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/v1/images", "/api/v1/images/**").access(serviceTokenAuthorizationManager) // ML 서비스 이미지 업로드
                         .requestMatchers("/api/v1/**").permitAll() // Chatbot is public
                         .requestMatchers("/swagger-ui/**").permitAll() // Swagger
                         .requestMatchers("/v3/api-docs/**").permitAll() // Swagger
@@ -70,7 +72,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("*")); // Adjust for production
         configuration.setAllowedMethods(Arrays.asList("GET", "PATCH", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", ServiceTokenAuthorizationManager.HEADER));
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
         return source;
@@ -0,0 +1,49 @@
+package com.example.automobile_risk.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ *  서비스 간 호출(ML 서비스 → 백엔드) 인가
+ *  - X-Service-Token 헤더가 설정된 토큰과 같을 때만 허용 (상수 시간 비교)
+ *  - 토큰이 설정되지 않았으면 모두 거부
+ */
+@Component
+public class ServiceTokenAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String HEADER = "X-Service-Token";
+
+    private final byte[] token;
+
+    public ServiceTokenAuthorizationManager(@Value("${app.service-token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision authorize(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        String presented = request.getHeader(HEADER);
+        if (token.length == 0 || presented == null) {
+            return new AuthorizationDecision(false);
+        }
+        return new AuthorizationDecision(MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     *  Spring Security 6.4 에서 deprecated, 남은 호출 경로를 위해 authorize 로 위임
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return authorize(authentication, context);
+    }
+}
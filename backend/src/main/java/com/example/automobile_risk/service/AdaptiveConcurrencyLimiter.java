@@ -0,0 +1,93 @@
+package com.example.automobile_risk.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  지연 기반 AIMD 동시성 제한
+ *  - 기준 지연(baseline): 관측된 최소 지연에서 천천히 따라 올라가는 값
+ *  - 응답 지연이 baseline × tolerance 를 넘거나 타임아웃/5xx 면 limit 을 backoffRatio 배로 감소
+ *  - 정상 응답이고 limit 의 절반 이상을 쓰고 있었으면 limit 을 1/limit 만큼 증가 (창 하나당 +1)
+ *  - limit 은 [minLimit, maxLimit] 범위 (maxLimit = ml-gateway.{key}.max-concurrent)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, double latencyTolerance, double backoffRatio) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = this.maxLimit;
+    }
+
+    /**
+     *  허용량이 생길 때까지 최대 waitMillis 대기
+     */
+    public synchronized boolean tryAcquire(long waitMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        while (inFlight >= (int) limit) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     *  정상 응답 (4xx 포함: 서비스 과부하 신호가 아님)
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        boolean saturated = inFlight >= limit / 2;
+        release();
+
+        if (baselineNanos == 0 || latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_DRIFT;
+        }
+
+        if (latencyNanos > baselineNanos * latencyTolerance) {
+            decrease();
+        } else if (saturated) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     *  타임아웃/연결 실패/5xx
+     */
+    public synchronized void onDropped() {
+        release();
+        decrease();
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    private void release() {
+        inFlight--;
+        notifyAll();
+    }
+}
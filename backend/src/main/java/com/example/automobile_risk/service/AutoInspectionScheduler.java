@@ -0,0 +1,255 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.InspectionCursor;
+import com.example.automobile_risk.exception.MLServiceUnavailableException;
+import com.example.automobile_risk.repository.InspectionCursorRepository;
+import com.example.automobile_risk.service.event.InspectionCompletedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ *  서버 측 자동 검사 파이프라인
+ *  - auto 엔드포인트(스테이션)별 offset 커서를 서버가 소유 → 브라우저 탭 수와 무관하게 일정 속도로 검사, 중복 offset 없음
+ *  - interval-ms 마다 다음 offset 을 하나씩 발행하고, 동시에 진행 중인 호출은 max-in-flight 개로 제한 (파이프라이닝)
+ *  - 결과 저장은 MLProxyService 경로 그대로, 완료마다 InspectionCompletedEvent 발행 (SSE 푸시)
+ *  - 완료된 연속 구간의 끝(watermark)을 inspection_cursors 에 저장 → 재시작 시 이어서 검사 (최대 max-in-flight 건 재검사)
+ *  - ML 서비스 불가(503) 로 실패한 offset 은 다음 틱에 재시도, 그 외 오류는 건너뛴다
+ *  FastAPI auto 엔드포인트는 ?offset=N 이면 N % 샘플 수 번째 샘플을 상태 없이(도장은 throttle 캐시 없이) 추론하므로
+ *  offset 하나가 샘플 하나에 대응한다. 프레스 진동만은 시뮬 시계열 스트림이라 offset 은 순번일 뿐이다.
+ */
+@Slf4j
+@Service
+public class AutoInspectionScheduler {
+
+    private static final List<MLEndpoint> STATIONS = List.of(
+            MLEndpoint.WELDING_IMAGE,
+            MLEndpoint.PAINT,
+            MLEndpoint.PRESS_VIBRATION,
+            MLEndpoint.PRESS_IMAGE,
+            MLEndpoint.BODY_BATCH
+    );
+
+    private final MLProxyService mlProxyService;
+    private final InspectionCursorRepository inspectionCursorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+    private final boolean enabled;
+
+    private final Map<MLEndpoint, Station> stations = new EnumMap<>(MLEndpoint.class);
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "auto-inspection");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AutoInspectionScheduler(MLProxyService mlProxyService,
+                                   InspectionCursorRepository inspectionCursorRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   Environment environment,
+                                   @Value("${auto-inspection.enabled:false}") boolean enabled) {
+        this.mlProxyService = mlProxyService;
+        this.inspectionCursorRepository = inspectionCursorRepository;
+        this.eventPublisher = eventPublisher;
+        this.environment = environment;
+        this.enabled = enabled;
+    }
+
+    /**
+     *  스테이션 상태 (조회 API 용)
+     *  committedOffset 미만은 모두 완료, nextOffset 은 다음에 발행할 offset
+     */
+    public record StationStatus(String station, String serviceType, long committedOffset, long nextOffset,
+                                int inFlight, long analyzed, long failed) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Auto inspection pipeline disabled (auto-inspection.enabled=false)");
+            return;
+        }
+
+        for (MLEndpoint endpoint : STATIONS) {
+            String prefix = "auto-inspection." + endpoint.getKey();
+            if (!environment.getProperty(prefix + ".enabled", Boolean.class, true)) {
+                continue;
+            }
+            long intervalMillis = environment.getProperty(prefix + ".interval-ms", Long.class, 1_000L);
+            int maxInFlight = environment.getProperty(prefix + ".max-in-flight", Integer.class, 2);
+            long startOffset = inspectionCursorRepository.findByStation(endpoint.getKey())
+                    .map(InspectionCursor::getNextOffset)
+                    .orElse(0L);
+
+            Station station = new Station(endpoint, startOffset, maxInFlight);
+            stations.put(endpoint, station);
+            ticker.scheduleAtFixedRate(() -> tick(station), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+            log.info("Auto inspection {}: from offset {}, every {}ms, maxInFlight={}",
+                    endpoint.getKey(), startOffset, intervalMillis, maxInFlight);
+        }
+    }
+
+    public List<StationStatus> getStatus() {
+        List<StationStatus> statuses = new ArrayList<>();
+        for (Station station : stations.values()) {
+            statuses.add(station.status());
+        }
+        return statuses;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void tick(Station station) {
+        Long offset = station.claim();
+        if (offset != null) {
+            workers.execute(() -> inspect(station, offset));
+        }
+    }
+
+    private void inspect(Station station, long offset) {
+        MLEndpoint endpoint = station.endpoint;
+        try {
+            JsonNode result = call(endpoint, (int) offset);
+            station.complete(offset, true);
+            eventPublisher.publishEvent(
+                    new InspectionCompletedEvent(endpoint.getKey(), offset, result, LocalDateTime.now()));
+        } catch (MLServiceUnavailableException e) {
+            log.debug("Auto inspection {} offset {} deferred: {}", endpoint.getKey(), offset, e.getMessage());
+            station.requeue(offset);
+            return;
+        } catch (Exception e) {
+            log.warn("Auto inspection {} offset {} failed, skipping: {}", endpoint.getKey(), offset, e.getMessage());
+            station.complete(offset, false);
+        }
+        saveCursor(station);
+    }
+
+    /**
+     *  파이프라인 자체가 선행 발행을 하므로 read-ahead 를 거치지 않고 직접 호출
+     */
+    private JsonNode call(MLEndpoint endpoint, int offset) {
+        if (endpoint == MLEndpoint.BODY_BATCH) {
+            return mlProxyService.analyzeBodyAssemblyBatchAuto(
+                    environment.getProperty("auto-inspection.body-batch.conf", Double.class, 0.5), offset);
+        }
+        return mlProxyService.callMLServiceWithoutFile(endpoint, offset);
+    }
+
+    /**
+     *  watermark 가 전진했을 때만 저장
+     *  스테이션마다 한 번에 한 스레드만 저장 (가져온 watermark 순서대로 쓰여 커서가 뒤로 가지 않고, 첫 insert 도 한 번만)
+     *  JDBC 호출 동안 잡고 있으므로 가상 스레드를 고정(pin)하지 않도록 synchronized 대신 ReentrantLock
+     */
+    private void saveCursor(Station station) {
+        station.cursorLock.lock();
+        try {
+            long watermark = station.takeUnsavedWatermark();
+            if (watermark < 0) {
+                return;
+            }
+            InspectionCursor cursor = inspectionCursorRepository.findByStation(station.endpoint.getKey())
+                    .orElseGet(() -> InspectionCursor.builder().station(station.endpoint.getKey()).nextOffset(0L).build());
+            if (cursor.getNextOffset() >= watermark) {
+                return;
+            }
+            cursor.setNextOffset(watermark);
+            cursor.setUpdatedAt(LocalDateTime.now());
+            inspectionCursorRepository.save(cursor);
+        } catch (Exception e) {
+            log.warn("Failed to save inspection cursor for {}: {}", station.endpoint.getKey(), e.getMessage());
+        } finally {
+            station.cursorLock.unlock();
+        }
+    }
+
+    /**
+     *  스테이션별 offset 발행/완료 추적
+     */
+    static final class Station {
+        private final MLEndpoint endpoint;
+        private final ReentrantLock cursorLock = new ReentrantLock();
+        private final int maxInFlight;
+        private final Deque<Long> retry = new ArrayDeque<>();
+        private final SortedSet<Long> completedAhead = new TreeSet<>();
+        private long nextOffset;
+        private long watermark;
+        private long savedWatermark;
+        private int inFlight;
+        private long analyzed;
+        private long failed;
+
+        Station(MLEndpoint endpoint, long startOffset, int maxInFlight) {
+            this.endpoint = endpoint;
+            this.maxInFlight = maxInFlight;
+            this.nextOffset = startOffset;
+            this.watermark = startOffset;
+            this.savedWatermark = startOffset;
+        }
+
+        synchronized Long claim() {
+            if (inFlight >= maxInFlight) {
+                return null;
+            }
+            inFlight++;
+            return retry.isEmpty() ? nextOffset++ : retry.poll();
+        }
+
+        synchronized void requeue(long offset) {
+            inFlight--;
+            retry.addFirst(offset);
+        }
+
+        synchronized void complete(long offset, boolean success) {
+            inFlight--;
+            if (success) {
+                analyzed++;
+            } else {
+                failed++;
+            }
+            completedAhead.add(offset);
+            while (!completedAhead.isEmpty() && completedAhead.first() == watermark) {
+                completedAhead.remove(watermark);
+                watermark++;
+            }
+        }
+
+        /**
+         *  저장할 watermark (변화 없으면 -1)
+         */
+        synchronized long takeUnsavedWatermark() {
+            if (watermark == savedWatermark) {
+                return -1;
+            }
+            savedWatermark = watermark;
+            return watermark;
+        }
+
+        synchronized StationStatus status() {
+            return new StationStatus(endpoint.getKey(), endpoint.getServiceType(), watermark, nextOffset,
+                    inFlight, analyzed, failed);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Anomaly;
+import com.example.automobile_risk.entity.DashboardHistory;
+import com.example.automobile_risk.entity.ProcessEntity;
+import com.example.automobile_risk.entity.ProcessEvent;
+import com.example.automobile_risk.repository.AnomalyRepository;
+import com.example.automobile_risk.repository.DashboardHistoryRepository;
+import com.example.automobile_risk.repository.ProcessEventRepository;
+import com.example.automobile_risk.repository.ProcessRepository;
+import com.example.automobile_risk.service.dto.DelayPredictionOverviewResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ *  대시보드 하위 조회 병렬 실행기
+ *  서로 독립적인 조회들을 가상 스레드에서 동시에 실행하고, 파트별 마감 시간을 넘기면
+ *  해당 파트만 마지막으로 성공한 값(없으면 빈 값)으로 대체한다.
+ *  → 응답 지연은 파트 지연의 합이 아니라 최댓값(최대 마감 시간)으로 제한된다.
+ *  파트별 single-flight: 같은 파트가 아직 실행 중이면 새로 시작하지 않고 그 future 를 함께 기다린다
+ *  (마감을 넘긴 느린 조회가 요청마다 쌓이지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardAssembler {
+
+    private final ProcessRepository processRepository;
+    private final AnomalyRepository anomalyRepository;
+    private final DashboardHistoryRepository historyRepository;
+    private final ProcessEventRepository processEventRepository;
+    private final DelayPredictionService delayPredictionService;
+
+    @Value("${dashboard.history.days:14}")
+    private int historyDays;
+
+    @Value("${dashboard.assembler.deadline-ms:1500}")
+    private long queryDeadlineMillis;
+
+    @Value("${dashboard.assembler.overview-deadline-ms:5000}")
+    private long overviewDeadlineMillis;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Object> lastKnown = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     *  대시보드 계산에 필요한 조회 결과 묶음
+     *  overview 는 마감 초과 + 이전 값 없음이면 null
+     */
+    public record DashboardParts(
+            List<ProcessEntity> processes,
+            List<Anomaly> anomalies,
+            List<Anomaly> warnings,
+            List<DashboardHistory> history,
+            List<ProcessEvent> events,
+            DelayPredictionOverviewResponse overview
+    ) {}
+
+    public DashboardParts fetch(LocalDate today) {
+        CompletableFuture<List<ProcessEntity>> processes =
+                part("processes", processRepository::findAll, List.of(), queryDeadlineMillis);
+        CompletableFuture<List<Anomaly>> anomalies =
+                part("anomalies", () -> anomalyRepository.findByType("anomaly"), List.of(), queryDeadlineMillis);
+        CompletableFuture<List<Anomaly>> warnings =
+                part("warnings", () -> anomalyRepository.findByType("warning"), List.of(), queryDeadlineMillis);
+        CompletableFuture<List<DashboardHistory>> history =
+                part("history", () -> historyRepository.findByStatDateBetweenOrderByStatDateAsc(
+                        today.minusDays(historyDays), today.minusDays(1)), List.of(), queryDeadlineMillis);
+        CompletableFuture<List<ProcessEvent>> events =
+                part("events", processEventRepository::findAll, List.of(), queryDeadlineMillis);
+        CompletableFuture<DelayPredictionOverviewResponse> overview =
+                part("overview", delayPredictionService::getOverview, null, overviewDeadlineMillis);
+
+        CompletableFuture.allOf(processes, anomalies, warnings, history, events, overview).join();
+
+        return new DashboardParts(
+                processes.join(),
+                anomalies.join(),
+                warnings.join(),
+                history.join(),
+                events.join(),
+                overview.join()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  파트 하나를 비동기 실행 (이미 실행 중이면 그 결과를 함께 기다린다)
+     *  원본 작업은 마감 후에도 끝까지 실행되어 다음 요청을 위한 lastKnown 을 갱신한다.
+     */
+    private <T> CompletableFuture<T> part(String name, Supplier<T> loader, T empty, long deadlineMillis) {
+        return inFlightOrStart(name, loader).copy()
+                .orTimeout(deadlineMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> fallback(name, empty, e));
+    }
+
+    /**
+     *  맵에 먼저 등록한 뒤 실행 → 완료 시 자기 자신만 제거 (즉시 끝나는 작업도 맵에 남지 않는다)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> inFlightOrStart(String name, Supplier<T> loader) {
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<?> existing = inFlight.putIfAbsent(name, created);
+        if (existing != null) {
+            return (CompletableFuture<T>) existing;
+        }
+
+        created.whenComplete((value, e) -> {
+            inFlight.remove(name, created);
+            if (e == null && value != null) {
+                lastKnown.put(name, value);
+            }
+        });
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(loader.get());
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T fallback(String name, T empty, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            log.warn("Dashboard part '{}' missed its deadline, serving last known value", name);
+        } else {
+            log.warn("Dashboard part '{}' failed, serving last known value: {}", name, cause.getMessage());
+        }
+        return (T) lastKnown.getOrDefault(name, empty);
+    }
+}
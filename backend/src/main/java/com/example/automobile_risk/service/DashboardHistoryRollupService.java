@@ -0,0 +1,109 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.DashboardResponse;
+import com.example.automobile_risk.entity.DashboardHistory;
+import com.example.automobile_risk.repository.DashboardHistoryRepository;
+import com.example.automobile_risk.repository.ProcessEventRepository;
+import com.example.automobile_risk.repository.ProcessEventRepository.SeverityCounts;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ *  대시보드 일별 이력 롤업
+ *  - 매 시간 오늘 날짜 행을 upsert: 지연/효율은 그 시점 KPI, 이상/경고 건수는 그날 검출된 공정 이벤트 수
+ *  - 자정 직후 전날 행을 마감: 이상/경고 건수를 전날 하루 구간으로 다시 세고,
+ *    지연/효율은 마지막 시간별 값을 유지 (행이 없을 때만 현재 KPI 로 채운다)
+ *  이력 차트는 이 테이블만 읽으므로 과거 구간을 재계산하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardHistoryRollupService {
+
+    private final DashboardHistoryRepository historyRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final ProcessEventRepository processEventRepository;
+
+    @Scheduled(cron = "${dashboard.history.rollup-cron:0 55 * * * *}")
+    public void rollupScheduled() {
+        try {
+            DashboardResponse latest = dashboardSnapshotService.refreshAsync().join().response();
+            rollup(LocalDate.now(), latest);
+        } catch (Exception e) {
+            log.warn("Dashboard history rollup failed", e);
+        }
+    }
+
+    /**
+     *  전날 행 마감 (마지막 시간별 실행 이후 ~ 자정 사이 이벤트 반영)
+     */
+    @Scheduled(cron = "${dashboard.history.finalize-cron:0 5 0 * * *}")
+    public void finalizePreviousDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            if (historyRepository.findByStatDate(yesterday).isPresent()) {
+                finalizeDay(yesterday);
+            } else {
+                rollup(yesterday, dashboardSnapshotService.refreshAsync().join().response());
+            }
+        } catch (Exception e) {
+            log.warn("Dashboard history finalize for {} failed", yesterday, e);
+        }
+    }
+
+    /**
+     *  statDate 행 upsert
+     */
+    @Transactional
+    public DashboardHistory rollup(LocalDate statDate, DashboardResponse dashboard) {
+        DashboardHistory history = historyRepository.findByStatDate(statDate)
+                .orElseGet(() -> DashboardHistory.builder().statDate(statDate).build());
+
+        history.setTotalDelay(Math.round(dashboard.getTotalDelayHours() * 10.0) / 10.0);
+        history.setOverallEfficiency(dashboard.getOverallEfficiency());
+        history.setProductionEfficiency(dashboard.getProductionEfficiency());
+        applyEventCounts(history);
+        history.setAggregatedAt(LocalDateTime.now());
+
+        DashboardHistory saved = historyRepository.save(history);
+        log.info("Dashboard history rolled up for {}: delay={}h, anomalies={}, warnings={}",
+                statDate, saved.getTotalDelay(), saved.getAnomalyCount(), saved.getWarningCount());
+        return saved;
+    }
+
+    /**
+     *  statDate 행의 이상/경고 건수만 그날 구간으로 다시 센다
+     */
+    @Transactional
+    public void finalizeDay(LocalDate statDate) {
+        historyRepository.findByStatDate(statDate).ifPresent(history -> {
+            applyEventCounts(history);
+            history.setAggregatedAt(LocalDateTime.now());
+            historyRepository.save(history);
+            log.info("Dashboard history finalized for {}: anomalies={}, warnings={}",
+                    statDate, history.getAnomalyCount(), history.getWarningCount());
+        });
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void applyEventCounts(DashboardHistory history) {
+        LocalDate statDate = history.getStatDate();
+        SeverityCounts counts = processEventRepository.countBySeverityBetween(
+                statDate.atStartOfDay(), statDate.plusDays(1).atStartOfDay());
+        history.setAnomalyCount(toInt(counts.getAnomalies()));
+        history.setWarningCount(toInt(counts.getWarnings()));
+    }
+
+    private static int toInt(Long value) {
+        return value != null ? value.intValue() : 0;
+    }
+}
@@ -6,15 +6,13 @@ import com.example.automobile_risk.entity.DashboardHistory;
 import com.example.automobile_risk.entity.ProcessEntity;
 import com.example.automobile_risk.entity.ProcessEvent;
 import com.example.automobile_risk.entity.enumclass.RiskLevel;
-import com.example.automobile_risk.repository.AnomalyRepository;
-import com.example.automobile_risk.repository.DashboardHistoryRepository;
-import com.example.automobile_risk.repository.ProcessEventRepository;
-import com.example.automobile_risk.repository.ProcessRepository;
 import com.example.automobile_risk.service.dto.DelayPredictionOverviewResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,18 +27,18 @@ public class DashboardService {
     private static final double UNRESOLVED_EVENT_PENALTY = 1.5;  // 미해결 이벤트 1건당 가동률 -1.5%
     private static final double SEVERITY_HIGH_PENALTY = 1.0;     // 고심각도(2+) 이벤트당 생산효율 -1%
     private static final double DELAY_EFFICIENCY_FACTOR = 0.5;   // 지연시간 1h당 생산효율 -0.5%
+    private static final DateTimeFormatter HISTORY_LABEL_FORMAT = DateTimeFormatter.ofPattern("M/d");
 
-    private final ProcessRepository processRepository;
-    private final AnomalyRepository anomalyRepository;
-    private final DashboardHistoryRepository historyRepository;
-    private final ProcessEventRepository processEventRepository;
-    private final DelayPredictionService delayPredictionService;
+    private final DashboardAssembler dashboardAssembler;
 
     public DashboardResponse getMainDashboardData() {
-        List<ProcessEntity> processes = processRepository.findAll();
-        List<Anomaly> anomalies = anomalyRepository.findByType("anomaly");
-        List<Anomaly> warnings = anomalyRepository.findByType("warning");
-        List<DashboardHistory> history = historyRepository.findAllByOrderByIdAsc();
+        // 독립 조회는 병렬 실행 (이력은 일별 집계 테이블에서 어제까지만, 오늘은 아래 실시간 값으로 채운다)
+        LocalDate today = LocalDate.now();
+        DashboardAssembler.DashboardParts parts = dashboardAssembler.fetch(today);
+        List<ProcessEntity> processes = parts.processes();
+        List<Anomaly> anomalies = parts.anomalies();
+        List<Anomaly> warnings = parts.warnings();
+        List<DashboardHistory> history = parts.history();
 
         // 기존 이상/경고 건수 (레거시)
         int legacyAnomalies = anomalies.stream().mapToInt(Anomaly::getCount).sum();
@@ -59,7 +57,7 @@ public class DashboardService {
 
         try {
             // ProcessEvent 기반 이상/경고 집계
-            List<ProcessEvent> allEvents = processEventRepository.findAll();
+            List<ProcessEvent> allEvents = parts.events();
             if (!allEvents.isEmpty()) {
                 // severity >= 2 → 이상, severity < 2 → 경고
                 int eventAnomalies = (int) allEvents.stream()
@@ -89,8 +87,9 @@ public class DashboardService {
             }
 
             // 지연 시간 (예측 엔진)
-            DelayPredictionOverviewResponse overview = delayPredictionService.getOverview();
-            double predictedDelay = overview.getOrders().stream()
+            // 예측 파트가 마감을 넘기고 이전 값도 없으면 레거시 지연값 사용
+            DelayPredictionOverviewResponse overview = parts.overview();
+            double predictedDelay = overview == null ? 0 : overview.getOrders().stream()
                     .mapToDouble(DelayPredictionOverviewResponse.OrderPredictionSummary::getPredictedDelayHours)
                     .sum();
 
@@ -136,13 +135,13 @@ public class DashboardService {
 
         List<DashboardResponse.HistoryData> historyData = history.stream()
                 .map(h -> DashboardResponse.HistoryData.builder()
-                        .날짜(h.getDate())
+                        .날짜(h.getStatDate().format(HISTORY_LABEL_FORMAT))
                         .지연시간(h.getTotalDelay())
                         .build())
                 .collect(Collectors.toList());
 
         historyData.add(DashboardResponse.HistoryData.builder()
-                .날짜("1/9")
+                .날짜(today.format(HISTORY_LABEL_FORMAT))
                 .지연시간(Math.round(totalDelayHours * 10.0) / 10.0)
                 .build());
 
@@ -0,0 +1,173 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.DashboardResponse;
+import com.example.automobile_risk.service.event.DashboardChangedEvent;
+import com.example.automobile_risk.service.event.DashboardSnapshotRefreshedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ *  대시보드 스냅샷 서비스
+ *  - 마지막으로 계산된 DashboardResponse 를 즉시 반환 (stale-while-revalidate)
+ *  - TTL 이 지난 스냅샷은 백그라운드에서 갱신하며, 동시 갱신 요청은 하나로 합친다 (single-flight)
+ *  - 응답은 gzip 으로 미리 직렬화해 두어 캐시 히트 시 Jackson 직렬화가 없다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${dashboard.snapshot.ttl-ms:10000}")
+    private long ttlMillis;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean(false);
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "dashboard-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     *  대시보드 스냅샷 (응답 객체 + gzip 직렬화 JSON)
+     */
+    public record Snapshot(DashboardResponse response, byte[] gzipJson, Instant computedAt) {
+
+        public boolean isOlderThan(long ttlMillis) {
+            return computedAt.plusMillis(ttlMillis).isBefore(Instant.now());
+        }
+    }
+
+    /**
+     *  현재 스냅샷 조회
+     *  스냅샷이 없을 때(기동 직후)만 갱신 완료를 기다린다.
+     */
+    public Snapshot getSnapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            try {
+                return refreshAsync().join();
+            } catch (CompletionException e) {
+                throw new IllegalStateException("대시보드 스냅샷 생성 실패: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        if (snapshot.isOlderThan(ttlMillis)) {
+            refreshAsync();
+        }
+        return snapshot;
+    }
+
+    /**
+     *  비동기 갱신 요청 (진행 중인 갱신이 있으면 그 결과를 공유)
+     *  공정 이벤트/예측 변경 시에도 호출한다.
+     */
+    public CompletableFuture<Snapshot> refreshAsync() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlight.get();
+            if (running != null) {
+                return running;
+            }
+
+            CompletableFuture<Snapshot> future = new CompletableFuture<>();
+            if (inFlight.compareAndSet(null, future)) {
+                refreshExecutor.execute(() -> runRefresh(future));
+                return future;
+            }
+        }
+    }
+
+    /**
+     *  주기적 사전 계산
+     */
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.refresh-interval-ms:30000}",
+            initialDelayString = "${dashboard.snapshot.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    /**
+     *  기동 완료(초기 데이터 적재 이후) 시 스냅샷 워밍업
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
+    }
+
+    /**
+     *  공정 이벤트/예측/주문 변경 시 즉시 재계산
+     *  트랜잭션 안에서 발행되면 커밋 후에 받는다 (커밋 전 데이터로 계산하지 않도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        log.debug("Dashboard change detected ({}), refreshing snapshot", event.reason());
+        // 진행 중인 갱신은 변경 이전 데이터를 읽었을 수 있으므로 끝난 뒤 한 번 더 계산
+        if (inFlight.get() != null) {
+            rerunRequested.set(true);
+        }
+        refreshAsync();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void runRefresh(CompletableFuture<Snapshot> future) {
+        try {
+            long start = System.nanoTime();
+            DashboardResponse response = dashboardService.getMainDashboardData();
+            Snapshot snapshot = new Snapshot(response, gzip(objectMapper.writeValueAsBytes(response)), Instant.now());
+            Snapshot previous = current.getAndSet(snapshot);
+            future.complete(snapshot);
+            log.debug("Dashboard snapshot refreshed in {} ms", (System.nanoTime() - start) / 1_000_000);
+
+            eventPublisher.publishEvent(new DashboardSnapshotRefreshedEvent(previous, snapshot));
+        } catch (Throwable e) {
+            log.warn("Failed to refresh dashboard snapshot", e);
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.compareAndSet(future, null);
+            if (rerunRequested.getAndSet(false)) {
+                refreshAsync();
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(256, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bos)) {
+            gzip.write(json);
+        }
+        return bos.toByteArray();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.DashboardResponse;
+import com.example.automobile_risk.service.event.DashboardSnapshotRefreshedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ *  대시보드 변경분(delta) SSE 푸시
+ *  - 구독 시 현재 스냅샷 전체를 "snapshot" 이벤트로 한 번 보낸다
+ *  - 이후 스냅샷이 갱신될 때마다 바뀐 필드만 "delta" 이벤트로 보낸다 (값은 증분이 아닌 최신 값)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStreamService {
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    @Value("${dashboard.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService broadcastExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "dashboard-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     *  구독
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        // 등록 후 전체 스냅샷을 보내야 그 사이 발생한 delta 를 놓치지 않는다
+        emitters.add(emitter);
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("snapshot")
+                    .data(dashboardSnapshotService.getSnapshot().response()));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     *  스냅샷 갱신 → 변경 필드만 전송
+     */
+    @EventListener
+    public void onSnapshotRefreshed(DashboardSnapshotRefreshedEvent event) {
+        if (emitters.isEmpty() || event.previous() == null) {
+            return;
+        }
+
+        Map<String, Object> delta = diff(event.previous().response(), event.current().response());
+        if (delta.isEmpty()) {
+            return;
+        }
+        delta.put("computedAt", event.current().computedAt().toString());
+
+        broadcastExecutor.execute(() -> broadcast(delta));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcastExecutor.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void broadcast(Map<String, Object> delta) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("delta").data(delta));
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 구독자 정리
+                emitters.remove(emitter);
+            }
+        }
+        log.debug("Dashboard delta {} pushed to {} subscribers", delta.keySet(), emitters.size());
+    }
+
+    private static Map<String, Object> diff(DashboardResponse before, DashboardResponse after) {
+        Map<String, Object> delta = new LinkedHashMap<>();
+
+        putIfChanged(delta, "totalAnomalies", before.getTotalAnomalies(), after.getTotalAnomalies());
+        putIfChanged(delta, "totalWarnings", before.getTotalWarnings(), after.getTotalWarnings());
+        putIfChanged(delta, "totalDelayHours", before.getTotalDelayHours(), after.getTotalDelayHours());
+        putIfChanged(delta, "overallEfficiency", before.getOverallEfficiency(), after.getOverallEfficiency());
+        putIfChanged(delta, "productionEfficiency", before.getProductionEfficiency(), after.getProductionEfficiency());
+        putIfChanged(delta, "overallRiskLevel", before.getOverallRiskLevel(), after.getOverallRiskLevel());
+
+        // 공정별 통계: 값이 바뀐 공정만
+        Map<String, DashboardResponse.ProcessStat> previousStats = new HashMap<>();
+        if (before.getProcessStats() != null) {
+            before.getProcessStats().forEach(p -> previousStats.put(p.getName(), p));
+        }
+        List<DashboardResponse.ProcessStat> changedStats = new ArrayList<>();
+        if (after.getProcessStats() != null) {
+            for (DashboardResponse.ProcessStat stat : after.getProcessStats()) {
+                DashboardResponse.ProcessStat prev = previousStats.get(stat.getName());
+                if (prev == null
+                        || !Objects.equals(prev.get정상(), stat.get정상())
+                        || !Objects.equals(prev.get경고(), stat.get경고())
+                        || !Objects.equals(prev.get이상(), stat.get이상())) {
+                    changedStats.add(stat);
+                }
+            }
+        }
+        if (!changedStats.isEmpty()) {
+            delta.put("processStats", changedStats);
+        }
+
+        return delta;
+    }
+
+    private static void putIfChanged(Map<String, Object> delta, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            delta.put(field, after);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.DefectHeatmapResponse;
+import com.example.automobile_risk.entity.DefectHeatmap;
+import com.example.automobile_risk.entity.DetectedDefect;
+import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.repository.DefectHeatmapRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ *  도장 결함 위치 히트맵
+ *  - 결과 저장 시(호출자 트랜잭션) bbox 중심을 GRID_COLUMNS × GRID_ROWS 격자 칸으로 환산해
+ *    (위치, 결함 유형, 시간) 행의 int 배열에 증분 반영 → 조회는 시간 행 배열만 더한다 (bbox 원본 전송 없음)
+ *  - 행은 insert-if-absent 후 FOR UPDATE 로 잠그고 갱신, 여러 행은 키 순서대로 잠가 교착을 피한다
+ *  - 이미지 크기가 없는 결과는 default-frame-width/height 기준으로 정규화
+ */
+@Service
+public class DefectHeatmapService {
+
+    public static final int GRID_COLUMNS = 32;
+    public static final int GRID_ROWS = 32;
+    private static final int CELL_COUNT = GRID_COLUMNS * GRID_ROWS;
+    private static final int MAX_FRAMES = 24 * 7;
+    private static final String UNASSIGNED_LOCATION = "UNASSIGNED";
+
+    private static final Comparator<HeatmapKey> LOCK_ORDER = Comparator
+            .comparing(HeatmapKey::locationCode)
+            .thenComparing(HeatmapKey::defectClass)
+            .thenComparing(HeatmapKey::hourStart);
+
+    private final DefectHeatmapRepository defectHeatmapRepository;
+    private final int defaultFrameWidth;
+    private final int defaultFrameHeight;
+
+    public DefectHeatmapService(DefectHeatmapRepository defectHeatmapRepository,
+                                @Value("${defect-heatmap.default-frame-width:640}") int defaultFrameWidth,
+                                @Value("${defect-heatmap.default-frame-height:640}") int defaultFrameHeight) {
+        this.defectHeatmapRepository = defectHeatmapRepository;
+        this.defaultFrameWidth = defaultFrameWidth;
+        this.defaultFrameHeight = defaultFrameHeight;
+    }
+
+    private record HeatmapKey(String locationCode, String defectClass, LocalDateTime hourStart) {}
+
+    /**
+     *  저장된 결과들의 결함을 히트맵에 반영 (호출자 트랜잭션 안에서 실행)
+     */
+    public void apply(Collection<PaintAnalysisResult> results) {
+        Map<HeatmapKey, int[]> increments = new TreeMap<>(LOCK_ORDER);
+
+        for (PaintAnalysisResult result : results) {
+            if (result.getAnalyzedAt() == null || result.getDetectedDefects() == null) {
+                continue;
+            }
+            int width = positiveOr(result.getImageWidth(), defaultFrameWidth);
+            int height = positiveOr(result.getImageHeight(), defaultFrameHeight);
+            LocalDateTime hourStart = result.getAnalyzedAt().truncatedTo(ChronoUnit.HOURS);
+
+            for (DetectedDefect defect : result.getDetectedDefects()) {
+                int cell = cellIndex(defect, width, height);
+                if (cell < 0 || defect.getDefectClass() == null) {
+                    continue;
+                }
+                HeatmapKey key = new HeatmapKey(locationOf(result.getLocationCode()), defect.getDefectClass(), hourStart);
+                increments.computeIfAbsent(key, k -> new int[CELL_COUNT])[cell]++;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        increments.forEach((key, delta) -> {
+            defectHeatmapRepository.insertIfAbsent(key.locationCode(), key.defectClass(), key.hourStart(), CELL_COUNT);
+            DefectHeatmap heatmap = defectHeatmapRepository
+                    .findForUpdate(key.locationCode(), key.defectClass(), key.hourStart())
+                    .orElseThrow(() -> new IllegalStateException("히트맵 행 생성 실패: " + key));
+
+            int[] cells = heatmap.getCells();
+            long added = 0;
+            for (int i = 0; i < CELL_COUNT; i++) {
+                cells[i] += delta[i];
+                added += delta[i];
+            }
+            heatmap.setDefectCount(heatmap.getDefectCount() + added);
+            heatmap.setUpdatedAt(now);
+        });
+    }
+
+    /**
+     *  기간 히트맵 (defectClass 없으면 전체 유형 합산)
+     *  bucket: null = 합계만, HOUR / DAY = 시간 구간별 프레임 포함 (최대 MAX_FRAMES 개)
+     */
+    @Transactional(readOnly = true)
+    public DefectHeatmapResponse getHeatmap(String locationCode, String defectClass,
+                                            LocalDateTime from, LocalDateTime to, String bucket) {
+        ChronoUnit unit = bucketUnit(bucket);
+        if (unit != null && unit.getDuration().multipliedBy(MAX_FRAMES).compareTo(Duration.between(from, to)) < 0) {
+            throw new IllegalArgumentException("구간 프레임은 최대 " + MAX_FRAMES + "개입니다: " + from + " ~ " + to + " / " + bucket);
+        }
+
+        String location = locationOf(locationCode);
+        List<DefectHeatmap> rows = defectClass == null || defectClass.isBlank()
+                ? defectHeatmapRepository.findByLocation(location, from.truncatedTo(ChronoUnit.HOURS), to)
+                : defectHeatmapRepository.findByLocationAndDefectClass(location, defectClass, from.truncatedTo(ChronoUnit.HOURS), to);
+
+        int[] total = new int[CELL_COUNT];
+        long defectCount = 0;
+        Map<String, Long> defectsByType = new TreeMap<>();
+        Map<LocalDateTime, DefectHeatmapResponse.Frame> frames = new TreeMap<>();
+
+        for (DefectHeatmap row : rows) {
+            addInto(total, row.getCells());
+            defectCount += row.getDefectCount();
+            defectsByType.merge(row.getDefectClass(), row.getDefectCount(), Long::sum);
+
+            if (unit != null) {
+                DefectHeatmapResponse.Frame frame = frames.computeIfAbsent(row.getHourStart().truncatedTo(unit),
+                        start -> DefectHeatmapResponse.Frame.builder()
+                                .bucketStart(start)
+                                .cells(new int[CELL_COUNT])
+                                .build());
+                addInto(frame.getCells(), row.getCells());
+                frame.setDefectCount(frame.getDefectCount() + row.getDefectCount());
+            }
+        }
+
+        return DefectHeatmapResponse.builder()
+                .locationCode(location)
+                .defectClass(defectClass == null || defectClass.isBlank() ? null : defectClass)
+                .from(from)
+                .to(to)
+                .gridColumns(GRID_COLUMNS)
+                .gridRows(GRID_ROWS)
+                .defectCount(defectCount)
+                .maxCellCount(Arrays.stream(total).max().orElse(0))
+                .cells(total)
+                .defectsByType(defectsByType)
+                .frames(unit != null ? new ArrayList<>(frames.values()) : null)
+                .build();
+    }
+
+    /**
+     *  히트맵이 있는 위치 코드 목록
+     */
+    @Transactional(readOnly = true)
+    public List<String> getLocationCodes() {
+        return defectHeatmapRepository.findLocationCodes();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  bbox 중심이 속한 격자 칸 (bbox 가 없으면 -1)
+     */
+    private static int cellIndex(DetectedDefect defect, int width, int height) {
+        if (defect.getBboxX1() == null || defect.getBboxY1() == null
+                || defect.getBboxX2() == null || defect.getBboxY2() == null) {
+            return -1;
+        }
+        double centerX = (defect.getBboxX1() + defect.getBboxX2()) / 2.0 / width;
+        double centerY = (defect.getBboxY1() + defect.getBboxY2()) / 2.0 / height;
+        int column = clamp((int) (centerX * GRID_COLUMNS), GRID_COLUMNS);
+        int row = clamp((int) (centerY * GRID_ROWS), GRID_ROWS);
+        return row * GRID_COLUMNS + column;
+    }
+
+    private static ChronoUnit bucketUnit(String bucket) {
+        if (bucket == null || bucket.isBlank()) {
+            return null;
+        }
+        return switch (bucket.toUpperCase()) {
+            case "HOUR" -> ChronoUnit.HOURS;
+            case "DAY" -> ChronoUnit.DAYS;
+            default -> throw new IllegalArgumentException("bucket 은 HOUR 또는 DAY 입니다: " + bucket);
+        };
+    }
+
+    private static String locationOf(String locationCode) {
+        return locationCode == null || locationCode.isBlank() ? UNASSIGNED_LOCATION : locationCode;
+    }
+
+    private static int positiveOr(Integer value, int fallback) {
+        return value != null && value > 0 ? value : fallback;
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+
+    private static void addInto(int[] target, int[] source) {
+        if (source == null) {
+            return;
+        }
+        for (int i = 0; i < Math.min(target.length, source.length); i++) {
+            target[i] += source[i];
+        }
+    }
+}
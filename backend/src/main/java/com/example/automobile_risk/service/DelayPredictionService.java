@@ -12,11 +12,13 @@ import com.example.automobile_risk.repository.PredictionSnapshotRepository;
 import com.example.automobile_risk.repository.ProcessEventRepository;
 import com.example.automobile_risk.service.dto.DelayPredictionOverviewResponse;
 import com.example.automobile_risk.service.dto.DelayPredictionResponse;
+import com.example.automobile_risk.service.event.DashboardChangedEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,9 +37,12 @@ public class DelayPredictionService {
     private final PredictionSnapshotRepository predictionSnapshotRepository;
     private final OrderRepository orderRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      *  주문별 지연 예측
+     *  결과(지연 시간/위험도/이벤트 수)가 직전 스냅샷과 다르면 DashboardChangedEvent 발행
+     *  (대시보드 갱신이 이 메서드를 다시 호출해도 결과가 같으면 발행하지 않으므로 갱신이 반복되지 않는다)
      */
     @Transactional
     public DelayPredictionResponse predictForOrder(Long orderId) {
@@ -63,8 +68,8 @@ public class DelayPredictionService {
         LocalDateTime calculatedAt = LocalDateTime.now();
 
         // 이전 스냅샷 만료 처리
-        predictionSnapshotRepository.findTopByOrderIdOrderByCalculatedAtDesc(orderId)
-                .ifPresent(PredictionSnapshot::markStale);
+        Optional<PredictionSnapshot> previous = predictionSnapshotRepository.findTopByOrderIdOrderByCalculatedAtDesc(orderId);
+        previous.ifPresent(PredictionSnapshot::markStale);
 
         // 새 스냅샷 저장
         PredictionSnapshot snapshot = PredictionSnapshot.create(
@@ -73,6 +78,15 @@ public class DelayPredictionService {
         );
         predictionSnapshotRepository.save(snapshot);
 
+        boolean changed = previous
+                .map(p -> p.getPredictedDelayHours() != totalDelay
+                        || p.getRiskLevel() != riskLevel
+                        || p.getEventCount() != scoredEvents.size())
+                .orElse(true);
+        if (changed) {
+            eventPublisher.publishEvent(new DashboardChangedEvent("delay-prediction"));
+        }
+
         // 공정별 집계
         Map<String, List<ScoredEvent>> byProcess = scoredEvents.stream()
                 .collect(Collectors.groupingBy(ScoredEvent::process));
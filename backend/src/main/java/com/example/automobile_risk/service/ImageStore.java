@@ -0,0 +1,324 @@
+package com.example.automobile_risk.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ *  내용 주소 기반(content-addressed) 로컬 이미지 저장소
+ *  - 파일명 = SHA-256(내용) + 확장자, 해시 앞 2+2 자리로 디렉터리 분산 (root/ab/cd/abcd....jpg)
+ *  - 같은 내용은 한 번만 저장 (이미 있으면 임시 파일만 지운다), 저장된 파일은 바뀌지 않으므로
+ *    URL 자체가 버전이다 → ETag = 해시, Cache-Control: immutable
+ *  - 임시 파일에 쓰면서 해시 계산 후 원자적 이동 (동시 저장/중단 시 반쯤 쓴 파일이 보이지 않음)
+ *  - 썸네일은 원본 옆에 {hash}.{ext}.thumb.jpg 로 둔다 (ThumbnailService 가 생성)
+ *  - 형식은 JDK ImageIO 가 헤더를 읽을 수 있는 jpg/png/bmp 만 (webp 는 리더가 없어 받지 않는다, ML 정적 URL 을 그대로 쓴다)
+ *  - 파일 크기 상한, 확장자와 일치하는 형식으로 디코딩되고 가로/세로가 상한 이하인 이미지만 받는다
+ *  - 저장소 전체 용량 상한을 넘으면 새 파일을 받지 않는다 (이미 저장된 URL 은 DB 가 참조하므로 지우지 않음)
+ */
+@Slf4j
+@Component
+public class ImageStore {
+
+    public static final String URL_PREFIX = "/api/v1/images/";
+    public static final String THUMBNAIL_SUFFIX = "/thumbnail";
+
+    private static final Pattern FILE_NAME = Pattern.compile("^([0-9a-f]{64})\\.([a-z]+)$");
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "jpg", MediaType.IMAGE_JPEG,
+            "jpeg", MediaType.IMAGE_JPEG,
+            "png", MediaType.IMAGE_PNG,
+            "bmp", MediaType.parseMediaType("image/bmp")
+    );
+
+    private final Path root;
+    private final long maxFileBytes;
+    private final int maxDimension;
+    private final long maxTotalBytes;
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public ImageStore(@Value("${image-store.root-dir:./data/images}") String rootDir,
+                      @Value("${image-store.max-file-bytes:20971520}") long maxFileBytes,
+                      @Value("${image-store.max-dimension:8192}") int maxDimension,
+                      @Value("${image-store.max-total-bytes:10737418240}") long maxTotalBytes) {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.maxFileBytes = maxFileBytes;
+        this.maxDimension = maxDimension;
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    /**
+     *  기존 저장소 사용량 집계 (용량 상한 판단용)
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (var files = Files.walk(root)) {
+            totalBytes.set(files.filter(Files::isRegularFile)
+                    .mapToLong(path -> path.toFile().length())
+                    .sum());
+        }
+        log.info("Image store {} holds {} bytes", root, totalBytes.get());
+    }
+
+    /**
+     *  저장된 이미지 (hash + 확장자)
+     */
+    public record StoredImage(String hash, String extension, long size) {
+
+        public String fileName() {
+            return hash + "." + extension;
+        }
+
+        public String url() {
+            return URL_PREFIX + fileName();
+        }
+    }
+
+    /**
+     *  저장 (원본 파일명/URL 의 확장자로 형식 결정)
+     *  지원하지 않는 형식, 크기/해상도 초과, 디코딩할 수 없는 내용이면 IllegalArgumentException,
+     *  저장소 용량 상한 초과면 IllegalStateException
+     */
+    public StoredImage put(InputStream content, String originalName) throws IOException {
+        String extension = extensionOf(originalName);
+        if (!MEDIA_TYPES.containsKey(extension)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + originalName);
+        }
+
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                size = copyBounded(in, out);
+            }
+            validateImage(temp, extension);
+
+            StoredImage image = new StoredImage(HexFormat.of().formatHex(digest.digest()), extension, size);
+            Path target = pathOf(image.hash(), extension);
+            if (Files.exists(target)) {
+                return image;
+            }
+            reserve(size);
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 같은 내용을 동시에 저장한 경우 (먼저 옮긴 쪽이 이긴다)
+                totalBytes.addAndGet(-size);
+            } catch (IOException | RuntimeException e) {
+                totalBytes.addAndGet(-size);
+                throw e;
+            }
+            log.debug("Stored image {} ({} bytes)", image.fileName(), size);
+            return image;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public StoredImage put(byte[] content, String originalName) {
+        try {
+            return put(new ByteArrayInputStream(content), originalName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     *  파일명(hash.ext) → 저장 경로 (형식이 틀리거나 없으면 empty)
+     */
+    public Optional<Path> find(String fileName) {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches() || !MEDIA_TYPES.containsKey(matcher.group(2))) {
+            return Optional.empty();
+        }
+        Path path = pathOf(matcher.group(1), matcher.group(2));
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     *  원본 파일명(hash.ext) → 썸네일 경로 (원본 파일명 형식이 틀리면 empty, 존재 여부는 확인하지 않음)
+     */
+    public Optional<Path> thumbnailPathOf(String fileName) {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches() || !MEDIA_TYPES.containsKey(matcher.group(2))) {
+            return Optional.empty();
+        }
+        return Optional.of(pathOf(matcher.group(1), matcher.group(2)).resolveSibling(fileName + ".thumb.jpg"));
+    }
+
+    /**
+     *  파생 파일(썸네일 등) 원자적 저장
+     */
+    public void writeDerived(Path target, byte[] content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "derived-", ".tmp");
+        try {
+            Files.write(temp, content);
+            long previous = Files.isRegularFile(target) ? Files.size(target) : 0;
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            totalBytes.addAndGet(content.length - previous);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     *  저장소 URL → 파일명 (저장소 URL 이 아니면 null)
+     */
+    public static String fileNameOf(String url) {
+        if (!isStoreUrl(url)) {
+            return null;
+        }
+        String fileName = url.substring(URL_PREFIX.length());
+        return fileName.endsWith(THUMBNAIL_SUFFIX)
+                ? fileName.substring(0, fileName.length() - THUMBNAIL_SUFFIX.length())
+                : fileName;
+    }
+
+    /**
+     *  저장소 이미지 URL → 썸네일 URL (저장소 URL 이 아니면 null)
+     */
+    public static String thumbnailUrlOf(String url) {
+        String fileName = fileNameOf(url);
+        return fileName != null ? URL_PREFIX + fileName + THUMBNAIL_SUFFIX : null;
+    }
+
+    /**
+     *  파일명(hash.ext) 의 해시 부분 (ETag 용)
+     */
+    public static String hashOf(String fileName) {
+        int dot = fileName.indexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     *  저장할 수 있는 확장자인지 (내려받기 전에 거르는 용도)
+     */
+    public static boolean isSupported(String name) {
+        return MEDIA_TYPES.containsKey(extensionOf(name));
+    }
+
+    public static MediaType mediaTypeOf(String fileName) {
+        return MEDIA_TYPES.getOrDefault(extensionOf(fileName), MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    /**
+     *  이 저장소가 제공하는 URL 인지
+     */
+    public static boolean isStoreUrl(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  maxFileBytes 까지만 복사, 넘으면 IllegalArgumentException
+     */
+    private long copyBounded(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        long copied = 0;
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            copied += read;
+            if (copied > maxFileBytes) {
+                throw new IllegalArgumentException("이미지 크기가 상한(" + maxFileBytes + " bytes)을 넘습니다");
+            }
+            out.write(buffer, 0, read);
+        }
+        return copied;
+    }
+
+    /**
+     *  헤더만 읽어 형식/해상도 확인 (픽셀 전체를 디코딩하지 않는다)
+     */
+    private void validateImage(Path file, String extension) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("이미지로 디코딩할 수 없습니다");
+            }
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                String expected = extension.equals("jpg") ? "jpeg" : extension;
+                if (!format.equals(expected)) {
+                    throw new IllegalArgumentException("확장자(" + extension + ")와 이미지 형식(" + format + ")이 다릅니다");
+                }
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || width > maxDimension || height > maxDimension) {
+                    throw new IllegalArgumentException("이미지 해상도가 허용 범위를 벗어납니다: " + width + "x" + height);
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("이미지로 디코딩할 수 없습니다: " + e.getMessage(), e);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     *  저장소 용량 예약 (상한 초과면 IllegalStateException)
+     */
+    private void reserve(long size) {
+        long after = totalBytes.addAndGet(size);
+        if (after > maxTotalBytes) {
+            totalBytes.addAndGet(-size);
+            throw new IllegalStateException("이미지 저장소 용량 상한(" + maxTotalBytes + " bytes)에 도달했습니다");
+        }
+    }
+
+    private Path pathOf(String hash, String extension) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + "." + extension);
+    }
+
+    private static String extensionOf(String name) {
+        if (name == null) {
+            return "";
+        }
+        int query = name.indexOf('?');
+        String path = query >= 0 ? name.substring(0, query) : name;
+        int dot = path.lastIndexOf('.');
+        return dot >= 0 ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
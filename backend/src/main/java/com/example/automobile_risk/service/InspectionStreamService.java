@@ -0,0 +1,76 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.event.InspectionCompletedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ *  서버 자동 검사 결과 SSE 푸시
+ *  검사 1건이 끝날 때마다 "inspection" 이벤트(station, offset, result, completedAt)를 전송한다.
+ */
+@Slf4j
+@Service
+public class InspectionStreamService {
+
+    @Value("${auto-inspection.stream.timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final ExecutorService broadcastExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "inspection-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     *  구독
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    @EventListener
+    public void onInspectionCompleted(InspectionCompletedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        broadcastExecutor.execute(() -> broadcast(event));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcastExecutor.shutdownNow();
+        emitters.forEach(SseEmitter::complete);
+        emitters.clear();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void broadcast(InspectionCompletedEvent event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("inspection").data(event));
+            } catch (IOException | IllegalStateException e) {
+                // 끊어진 구독자 정리
+                emitters.remove(emitter);
+            }
+        }
+    }
+}
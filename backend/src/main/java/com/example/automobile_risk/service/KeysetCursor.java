@@ -0,0 +1,30 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ *  keyset 페이지네이션 cursor: 직전 페이지 마지막 행의 (정렬 시각, id)
+ *  URL 에 그대로 넣을 수 있도록 base64url 로 인코딩한다. 해석할 수 없으면 InvalidCursorException (400)
+ */
+record KeysetCursor(LocalDateTime at, Long id) {
+
+    String encode() {
+        String raw = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static KeysetCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(value, e);
+        }
+    }
+}
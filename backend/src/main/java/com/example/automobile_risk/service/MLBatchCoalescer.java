@@ -0,0 +1,222 @@
+package com.example.automobile_risk.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ *  ML 추론 micro-batching
+ *  같은 엔드포인트로 짧은 시간(window) 안에 들어온 요청들을 한 번의 배치 호출로 묶고,
+ *  응답 results 배열을 순서대로 각 호출자에게 돌려준다.
+ *  - window 는 부하에 따라 조정: 혼자 온 요청이 많으면 줄이고, 묶이는 요청이 많으면 늘린다
+ *  - maxBatchSize 에 도달하면 window 를 기다리지 않고 즉시 전송
+ *  - 모인 요청이 1건이면 기존 단건 엔드포인트로 보낸다
+ */
+@Slf4j
+@Component
+public class MLBatchCoalescer {
+
+    private static final long WINDOW_STEP_MICROS = 1_000;
+
+    private final MLGatewayClient mlGatewayClient;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+    private final long minWindowMicros;
+    private final long maxWindowMicros;
+
+    private final Map<MLEndpoint, Lane> lanes = new EnumMap<>(MLEndpoint.class);
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ml-batch-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MLBatchCoalescer(MLGatewayClient mlGatewayClient,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${ml-batch.max-size:16}") int maxBatchSize,
+                            @Value("${ml-batch.min-window-ms:2}") long minWindowMillis,
+                            @Value("${ml-batch.max-window-ms:20}") long maxWindowMillis) {
+        this.mlGatewayClient = mlGatewayClient;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.minWindowMicros = minWindowMillis * 1_000;
+        this.maxWindowMicros = maxWindowMillis * 1_000;
+
+        lanes.put(MLEndpoint.WINDSHIELD, new Lane(MLEndpoint.WINDSHIELD, MLEndpoint.WINDSHIELD_BATCH, meterRegistry));
+        lanes.put(MLEndpoint.ENGINE, new Lane(MLEndpoint.ENGINE, MLEndpoint.ENGINE_BATCH, meterRegistry));
+    }
+
+    /**
+     *  배치 대상 요청 (side 는 윈드실드만 사용)
+     */
+    private record Pending(String side, Resource file, CompletableFuture<JsonNode> result) {}
+
+    public boolean supports(MLEndpoint endpoint) {
+        return lanes.containsKey(endpoint);
+    }
+
+    /**
+     *  요청 등록 → 배치 응답 중 자기 몫의 JSON 으로 완료되는 future
+     */
+    public CompletableFuture<JsonNode> submit(MLEndpoint endpoint, String side, Resource file) {
+        Lane lane = lanes.get(endpoint);
+        if (lane == null) {
+            throw new IllegalArgumentException("배치를 지원하지 않는 엔드포인트입니다: " + endpoint.getKey());
+        }
+
+        Pending pending = new Pending(side, file, new CompletableFuture<>());
+        List<Pending> ready = lane.add(pending);
+        if (ready != null) {
+            dispatch(lane, ready);
+        }
+        return pending.result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        senders.shutdown();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void dispatch(Lane lane, List<Pending> batch) {
+        lane.batchSizes.record(batch.size());
+        senders.execute(() -> {
+            if (batch.size() == 1) {
+                sendSingle(lane.single, batch.get(0));
+            } else {
+                sendBatch(lane.batch, batch);
+            }
+        });
+    }
+
+    private void sendSingle(MLEndpoint endpoint, Pending pending) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        if (pending.side() != null) {
+            body.add("side", pending.side());
+        }
+        body.add("file", pending.file());
+
+        try {
+            String response = mlGatewayClient.post(endpoint, "", MediaType.MULTIPART_FORM_DATA, body);
+            pending.result().complete(objectMapper.readTree(response));
+        } catch (Exception e) {
+            pending.result().completeExceptionally(e);
+        }
+    }
+
+    private void sendBatch(MLEndpoint endpoint, List<Pending> batch) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        for (Pending pending : batch) {
+            if (pending.side() != null) {
+                body.add("sides", pending.side());
+            }
+            body.add("files", pending.file());
+        }
+
+        try {
+            String response = mlGatewayClient.post(endpoint, "", MediaType.MULTIPART_FORM_DATA, body);
+            JsonNode results = objectMapper.readTree(response).path("results");
+
+            for (int i = 0; i < batch.size(); i++) {
+                JsonNode item = results.get(i);
+                CompletableFuture<JsonNode> result = batch.get(i).result();
+                if (item == null || item.isNull()) {
+                    result.completeExceptionally(new IllegalStateException("배치 응답에 결과가 없습니다. index=" + i));
+                } else if (item.has("error")) {
+                    result.completeExceptionally(new IllegalStateException(item.get("error").asText()));
+                } else {
+                    result.complete(item);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Batch call to {} failed for {} requests: {}", endpoint.getKey(), batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     *  엔드포인트별 대기열
+     */
+    private final class Lane {
+        private final MLEndpoint single;
+        private final MLEndpoint batch;
+        private final DistributionSummary batchSizes;
+        private final List<Pending> pending = new ArrayList<>();
+        private ScheduledFuture<?> scheduledFlush;
+        private long windowMicros = minWindowMicros;
+
+        Lane(MLEndpoint single, MLEndpoint batch, MeterRegistry meterRegistry) {
+            this.single = single;
+            this.batch = batch;
+            this.batchSizes = DistributionSummary.builder("ml.batch.size")
+                    .tag("endpoint", single.getKey())
+                    .description("micro-batch 당 요청 수")
+                    .register(meterRegistry);
+        }
+
+        synchronized List<Pending> add(Pending request) {
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                return drain();
+            }
+            if (pending.size() == 1) {
+                scheduledFlush = timer.schedule(this::flushOnTimer, windowMicros, TimeUnit.MICROSECONDS);
+            }
+            return null;
+        }
+
+        private void flushOnTimer() {
+            List<Pending> ready;
+            synchronized (this) {
+                ready = pending.isEmpty() ? null : drain();
+            }
+            if (ready != null) {
+                dispatch(this, ready);
+            }
+        }
+
+        private List<Pending> drain() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            List<Pending> ready = new ArrayList<>(pending);
+            pending.clear();
+            adaptWindow(ready.size());
+            return ready;
+        }
+
+        /**
+         *  혼자 온 요청 → 기다림이 낭비이므로 window 절반
+         *  여러 건이 묶였지만 최대치 미만 → 조금 더 기다리면 더 묶일 수 있으므로 증가
+         */
+        private void adaptWindow(int batchSize) {
+            if (batchSize <= 1) {
+                windowMicros = Math.max(minWindowMicros, windowMicros / 2);
+            } else if (batchSize < maxBatchSize) {
+                windowMicros = Math.min(maxWindowMicros, windowMicros + WINDOW_STEP_MICROS);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.automobile_risk.service;
+
+import java.util.function.BiConsumer;
+
+/**
+ *  엔드포인트별 서킷 브레이커
+ *  - CLOSED: 최근 windowSize 건 중 실패율이 threshold 이상이면 OPEN (최소 minimumCalls 건 이후)
+ *  - OPEN: openMillis 동안 호출 없이 즉시 거절
+ *  - HALF_OPEN: 시험 호출 1건만 허용, 성공 → CLOSED / 실패 → OPEN
+ *  - 상태가 바뀔 때마다 세대(generation)를 올리고, permit 의 세대가 현재와 다른 결과는 버린다
+ */
+public class MLCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public static final long NO_PERMISSION = -1;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+    private final BiConsumer<State, State> onTransition;
+
+    private final boolean[] outcomes;
+    private int recorded;
+    private int cursor;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public MLCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis,
+                            BiConsumer<State, State> onTransition) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.onTransition = onTransition;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     *  호출 가능 여부 (HALF_OPEN 이면 시험 호출 1건만 통과)
+     *  허용되면 permit 을 돌려주고, 결과(onSuccess/onFailure/releasePermission)는 그 permit 으로 보고한다
+     *  거절이면 NO_PERMISSION
+     */
+    public synchronized long tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                return NO_PERMISSION;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return NO_PERMISSION;
+            }
+            probeInFlight = true;
+        }
+        return generation;
+    }
+
+    /**
+     *  호출하지 않고 권한 반납
+     */
+    public synchronized void releasePermission(long permit) {
+        if (isCurrent(permit) && state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess(long permit) {
+        if (!isCurrent(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure(long permit) {
+        if (!isCurrent(permit)) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded * 100 >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     *  permit 을 받은 뒤 상태가 바뀌었으면 그 결과는 무시한다
+     *  (OPEN 전에 시작된 호출의 늦은 실패가 OPEN 을 연장하거나, HALF_OPEN 에서 시험 호출이 아닌 늦은 성공이 CLOSED 로 돌리지 않도록)
+     */
+    private boolean isCurrent(long permit) {
+        return permit == generation && state != State.OPEN;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == windowSize) {
+            if (outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = failed;
+        if (failed) {
+            failures++;
+        }
+        cursor = (cursor + 1) % windowSize;
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        transitionTo(State.OPEN);
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        generation++;
+        if (next == State.CLOSED) {
+            recorded = 0;
+            cursor = 0;
+            failures = 0;
+        }
+        if (previous != next) {
+            onTransition.accept(previous, next);
+        }
+    }
+}
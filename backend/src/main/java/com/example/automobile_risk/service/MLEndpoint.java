@@ -0,0 +1,64 @@
+package com.example.automobile_risk.service;
+
+/**
+ *  ML(FastAPI) 엔드포인트 목록
+ *  key 는 설정 키(ml-gateway.{key}.*)와 메트릭 태그로 쓰인다.
+ *  기본 타임아웃/동시성은 모델별 추론 시간 기준이며 설정으로 덮어쓸 수 있다.
+ *  idempotent: ?offset=N 을 붙이면 FastAPI 가 N % 샘플 수 번째 샘플을 상태 없이 추론하고 백엔드에 아무것도 저장하지 않는 엔드포인트
+ *              → offset 을 붙인 요청에 한해 중복 전송(hedging)해도 안전
+ *              (offset 이 없으면 FastAPI 공유 커서가 전진하므로 hedging 하지 않는다)
+ *  도장 auto 는 추론마다 결과를 백엔드에 직접 저장하고, 프레스 진동은 호출마다 전진하는 시뮬 스트림이라 제외
+ */
+public enum MLEndpoint {
+
+    WINDSHIELD("windshield", "/api/v1/smartfactory/windshield", "windshield", 10_000, 16, false),
+    ENGINE("engine", "/api/v1/smartfactory/engine", "engine", 15_000, 16, false),
+    WINDSHIELD_BATCH("windshield-batch", "/api/v1/smartfactory/windshield/batch", "windshield", 20_000, 4, false),
+    ENGINE_BATCH("engine-batch", "/api/v1/smartfactory/engine/batch", "engine", 30_000, 4, false),
+    WELDING_IMAGE("welding-image", "/api/v1/smartfactory/welding/image/auto", "welding_image", 20_000, 8, true),
+    PAINT("paint", "/api/v1/smartfactory/paint/auto", "paint", 30_000, 8, false),
+    PRESS_VIBRATION("press-vibration", "/api/v1/smartfactory/press/vibration", "press_vibration", 10_000, 8, false),
+    PRESS_IMAGE("press-image", "/api/v1/smartfactory/press/image", "press_image", 20_000, 8, true),
+    BODY_BATCH("body-batch", "/api/v1/smartfactory/body/inspect/batch/auto", "body_assembly", 60_000, 4, true);
+
+    private final String key;
+    private final String path;
+    private final String serviceType;
+    private final long defaultReadTimeoutMillis;
+    private final int defaultMaxConcurrent;
+    private final boolean idempotent;
+
+    MLEndpoint(String key, String path, String serviceType, long defaultReadTimeoutMillis, int defaultMaxConcurrent,
+               boolean idempotent) {
+        this.key = key;
+        this.path = path;
+        this.serviceType = serviceType;
+        this.defaultReadTimeoutMillis = defaultReadTimeoutMillis;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.idempotent = idempotent;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getServiceType() {
+        return serviceType;
+    }
+
+    public long getDefaultReadTimeoutMillis() {
+        return defaultReadTimeoutMillis;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.exception.MLServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  ML 서비스 게이트웨이 클라이언트
+ *  - 커넥션 풀(mlHttpClient)을 공유하면서 엔드포인트별 read timeout 적용
+ *  - 엔드포인트별 적응형 동시성 제한(AdaptiveConcurrencyLimiter): 지연이 늘면 허용 동시 호출 수를 줄여
+ *    느린 모델 하나가 요청 스레드를 모두 점유하지 못하게 한다 (상한 = max-concurrent)
+ *  - 엔드포인트별 서킷 브레이커: 실패율이 높으면 일정 시간 호출 없이 즉시 503
+ *  - idempotent 엔드포인트에 offset 을 붙인 요청은 hedge-after-ms 설정 시 응답이 늦으면 같은 요청을 한 번 더 보내
+ *    먼저 온 응답 사용 (offset 없는 요청은 FastAPI 공유 커서를 전진시키므로 hedging 하지 않는다)
+ *  - 메트릭: ml.gateway.requests(지연 히스토그램), ml.gateway.inflight, ml.gateway.limit, ml.gateway.rejected,
+ *    ml.gateway.circuit.state, ml.gateway.circuit.transitions, ml.gateway.hedged
+ */
+@Slf4j
+@Component
+public class MLGatewayClient {
+
+    private final MeterRegistry meterRegistry;
+    private final long bulkheadWaitMillis;
+
+    private final Map<MLEndpoint, RestClient> clients = new EnumMap<>(MLEndpoint.class);
+    private final Map<MLEndpoint, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(MLEndpoint.class);
+    private final Map<MLEndpoint, MLCircuitBreaker> breakers = new EnumMap<>(MLEndpoint.class);
+    private final Map<MLEndpoint, Long> hedgeDelays = new EnumMap<>(MLEndpoint.class);
+    private final Map<MLEndpoint, AtomicInteger> inFlight = new EnumMap<>(MLEndpoint.class);
+    private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MLGatewayClient(@Qualifier("mlHttpClient") HttpClient mlHttpClient,
+                           MeterRegistry meterRegistry,
+                           Environment environment,
+                           @Value("${ml-service.base-url:http://localhost:8000}") String mlServiceBaseUrl,
+                           @Value("${ml-gateway.bulkhead-wait-ms:0}") long bulkheadWaitMillis) {
+        this.meterRegistry = meterRegistry;
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+
+        double latencyTolerance = environment.getProperty("ml-gateway.limiter.latency-tolerance", Double.class, 2.0);
+        double backoffRatio = environment.getProperty("ml-gateway.limiter.backoff-ratio", Double.class, 0.9);
+        int windowSize = environment.getProperty("ml-gateway.circuit.window-size", Integer.class, 20);
+        int minimumCalls = environment.getProperty("ml-gateway.circuit.minimum-calls", Integer.class, 10);
+        double failureRateThreshold = environment.getProperty("ml-gateway.circuit.failure-rate-threshold", Double.class, 50.0);
+        long openMillis = environment.getProperty("ml-gateway.circuit.open-ms", Long.class, 10_000L);
+
+        for (MLEndpoint endpoint : MLEndpoint.values()) {
+            long readTimeout = environment.getProperty(
+                    "ml-gateway." + endpoint.getKey() + ".read-timeout-ms", Long.class, endpoint.getDefaultReadTimeoutMillis());
+            int maxConcurrent = environment.getProperty(
+                    "ml-gateway." + endpoint.getKey() + ".max-concurrent", Integer.class, endpoint.getDefaultMaxConcurrent());
+            int minConcurrent = environment.getProperty(
+                    "ml-gateway." + endpoint.getKey() + ".min-concurrent", Integer.class, 1);
+            long hedgeAfter = endpoint.isIdempotent()
+                    ? environment.getProperty("ml-gateway." + endpoint.getKey() + ".hedge-after-ms", Long.class, 0L)
+                    : 0L;
+
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(mlHttpClient);
+            requestFactory.setReadTimeout(Duration.ofMillis(readTimeout));
+            clients.put(endpoint, RestClient.builder()
+                    .baseUrl(mlServiceBaseUrl)
+                    .requestFactory(requestFactory)
+                    .build());
+
+            AdaptiveConcurrencyLimiter limiter =
+                    new AdaptiveConcurrencyLimiter(minConcurrent, maxConcurrent, latencyTolerance, backoffRatio);
+            limiters.put(endpoint, limiter);
+            Gauge.builder("ml.gateway.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("endpoint", endpoint.getKey())
+                    .description("현재 허용 동시 호출 수")
+                    .register(meterRegistry);
+
+            MLCircuitBreaker breaker = new MLCircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openMillis,
+                    (from, to) -> onCircuitTransition(endpoint, from, to));
+            breakers.put(endpoint, breaker);
+            Gauge.builder("ml.gateway.circuit.state", breaker, b -> b.getState().ordinal())
+                    .tag("endpoint", endpoint.getKey())
+                    .description("서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .register(meterRegistry);
+
+            hedgeDelays.put(endpoint, hedgeAfter);
+
+            AtomicInteger counter = new AtomicInteger();
+            inFlight.put(endpoint, counter);
+            Gauge.builder("ml.gateway.inflight", counter, AtomicInteger::get)
+                    .tag("endpoint", endpoint.getKey())
+                    .description("ML 서비스 진행 중 요청 수")
+                    .register(meterRegistry);
+
+            log.info("ML gateway endpoint {}: readTimeout={}ms, concurrency={}..{}, hedgeAfter={}ms",
+                    endpoint.getKey(), readTimeout, minConcurrent, maxConcurrent, hedgeAfter);
+        }
+    }
+
+    /**
+     *  POST 호출 후 응답 본문(String) 반환
+     *  @param query "?offset=3" 형태의 쿼리 문자열 (없으면 빈 문자열)
+     */
+    public String post(MLEndpoint endpoint, String query, MediaType contentType, Object body) {
+        return new String(postForBytes(endpoint, query, contentType, body), StandardCharsets.UTF_8);
+    }
+
+    /**
+     *  POST 호출 후 응답 본문 원문(byte[]) 반환 (디코딩/파싱 없이 그대로 전달할 때)
+     */
+    public byte[] postForBytes(MLEndpoint endpoint, String query, MediaType contentType, Object body) {
+        long hedgeAfter = hedgeDelays.get(endpoint);
+        if (hedgeAfter > 0 && query.startsWith("?offset=")) {
+            return postHedged(endpoint, query, contentType, body, hedgeAfter);
+        }
+        return postOnce(endpoint, query, contentType, body);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private byte[] postOnce(MLEndpoint endpoint, String query, MediaType contentType, Object body) {
+        MLCircuitBreaker breaker = breakers.get(endpoint);
+        long permit = breaker.tryAcquirePermission();
+        if (permit == MLCircuitBreaker.NO_PERMISSION) {
+            reject(endpoint, "circuit_open");
+            throw new MLServiceUnavailableException(endpoint.getKey(), "circuit open");
+        }
+
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpoint);
+        if (!tryAcquire(limiter)) {
+            breaker.releasePermission(permit);
+            reject(endpoint, "limit");
+            throw new MLServiceUnavailableException(endpoint.getKey(), "concurrency limit reached");
+        }
+
+        AtomicInteger running = inFlight.get(endpoint);
+        running.incrementAndGet();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        String outcome = "success";
+        try {
+            byte[] response = clients.get(endpoint).post()
+                    .uri(endpoint.getPath() + query)
+                    .contentType(contentType)
+                    .body(body)
+                    .retrieve()
+                    .body(byte[].class);
+            limiter.onSuccess(System.nanoTime() - started);
+            breaker.onSuccess(permit);
+            return response;
+        } catch (HttpClientErrorException e) {
+            // 4xx 는 요청 문제 → 서비스 상태 판단에서 제외
+            outcome = "error";
+            limiter.onSuccess(System.nanoTime() - started);
+            breaker.onSuccess(permit);
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            limiter.onDropped();
+            breaker.onFailure(permit);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("ml.gateway.requests")
+                    .tag("endpoint", endpoint.getKey())
+                    .tag("outcome", outcome)
+                    .description("ML 서비스 호출 지연")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            running.decrementAndGet();
+        }
+    }
+
+    /**
+     *  hedgeAfter 안에 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답 사용
+     *  (두 번째 요청도 동시성 제한/서킷을 거치므로 과부하 시에는 자연히 생략된다)
+     */
+    private byte[] postHedged(MLEndpoint endpoint, String query, MediaType contentType, Object body, long hedgeAfter) {
+        CompletableFuture<byte[]> primary =
+                CompletableFuture.supplyAsync(() -> postOnce(endpoint, query, contentType, body), hedgeExecutor);
+        try {
+            return primary.get(hedgeAfter, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Counter.builder("ml.gateway.hedged")
+                    .tag("endpoint", endpoint.getKey())
+                    .description("hedge 요청 전송 수")
+                    .register(meterRegistry)
+                    .increment();
+            CompletableFuture<byte[]> backup =
+                    CompletableFuture.supplyAsync(() -> postOnce(endpoint, query, contentType, body), hedgeExecutor);
+            return firstSuccess(primary, backup);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLServiceUnavailableException(endpoint.getKey(), "interrupted");
+        }
+    }
+
+    private byte[] firstSuccess(CompletableFuture<byte[]> primary, CompletableFuture<byte[]> backup) {
+        CompletableFuture<byte[]> winner = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<byte[]> attempt : List.of(primary, backup)) {
+            attempt.whenComplete((response, error) -> {
+                if (error == null) {
+                    winner.complete(response);
+                } else if (remaining.decrementAndGet() == 0) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        try {
+            return winner.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private boolean tryAcquire(AdaptiveConcurrencyLimiter limiter) {
+        try {
+            return limiter.tryAcquire(bulkheadWaitMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(MLEndpoint endpoint, String reason) {
+        Counter.builder("ml.gateway.rejected")
+                .tag("endpoint", endpoint.getKey())
+                .tag("reason", reason)
+                .description("동시성 제한/서킷으로 거절된 요청 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void onCircuitTransition(MLEndpoint endpoint, MLCircuitBreaker.State from, MLCircuitBreaker.State to) {
+        log.warn("ML gateway circuit for {}: {} -> {}", endpoint.getKey(), from, to);
+        Counter.builder("ml.gateway.circuit.transitions")
+                .tag("endpoint", endpoint.getKey())
+                .tag("to", to.name())
+                .description("서킷 상태 전이 수")
+                .register(meterRegistry)
+                .increment();
+    }
+}
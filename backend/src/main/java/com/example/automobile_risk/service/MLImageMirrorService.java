@@ -0,0 +1,187 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.example.automobile_risk.service.event.MLResultsSavedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  ML 결과 이미지 → 로컬 이미지 저장소(ImageStore) 복사
+ *  - MLResultWriter 가 저장한 결과 중 ML 서비스 정적 경로(/static/...) 이미지가 있는 것만 큐에 넣는다
+ *  - 백그라운드 스레드가 한 번만 내려받아 저장(썸네일 생성 요청 포함)하고, 결과 행의 URL 을 /api/v1/images/{hash}.{ext} 로 바꾼다
+ *    → 이력/갤러리 조회는 백엔드가 캐시 가능한 URL 로 제공 (ML 서비스는 이미지 트래픽을 받지 않음)
+ *  - 실패하면 원래 URL 을 그대로 둔다, 큐가 가득 차면 버린다
+ */
+@Slf4j
+@Service
+public class MLImageMirrorService {
+
+    private static final String ML_STATIC_PREFIX = "/static/";
+    private static final long POLL_MILLIS = 1000;
+
+    private final ImageStore imageStore;
+    private final ThumbnailService thumbnailService;
+    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RestClient restClient;
+    private final boolean enabled;
+
+    private final BlockingQueue<MLAnalysisResult> queue;
+    private final Thread worker = new Thread(this::drainLoop, "ml-image-mirror");
+    private volatile boolean running = true;
+
+    private final Counter mirrored;
+    private final Counter failed;
+    private final Counter dropped;
+
+    public MLImageMirrorService(ImageStore imageStore,
+                                ThumbnailService thumbnailService,
+                                MLAnalysisResultRepository mlAnalysisResultRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("mlHttpClient") HttpClient mlHttpClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${ml-service.base-url:http://localhost:8000}") String mlServiceBaseUrl,
+                                @Value("${image-store.mirror.enabled:true}") boolean enabled,
+                                @Value("${image-store.mirror.queue-capacity:1000}") int queueCapacity,
+                                @Value("${image-store.mirror.read-timeout-ms:10000}") long readTimeoutMillis) {
+        this.imageStore = imageStore;
+        this.thumbnailService = thumbnailService;
+        this.mlAnalysisResultRepository = mlAnalysisResultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(mlHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restClient = RestClient.builder()
+                .baseUrl(mlServiceBaseUrl)
+                .requestFactory(requestFactory)
+                .build();
+
+        Gauge.builder("image-store.mirror.queue", queue, BlockingQueue::size)
+                .description("복사 대기 중인 ML 결과 수")
+                .register(meterRegistry);
+        this.mirrored = Counter.builder("image-store.mirror.mirrored")
+                .description("로컬 저장소로 복사한 이미지 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("image-store.mirror.failed")
+                .description("복사에 실패해 원래 URL 을 유지한 이미지 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("image-store.mirror.dropped")
+                .description("큐 포화로 복사하지 못한 ML 결과 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("ML image mirror disabled (image-store.mirror.enabled=false)");
+            return;
+        }
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     *  ML 정적 경로 이미지가 있는 결과만 큐에 넣는다 (writer 스레드, 즉시 반환)
+     */
+    @EventListener
+    public void onResultsSaved(MLResultsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        for (MLAnalysisResult result : event.results()) {
+            if (!isMlStatic(result.getOriginalImageUrl()) && !isMlStatic(result.getResultImageUrl())) {
+                continue;
+            }
+            if (!running || !queue.offer(result)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(POLL_MILLIS * 2);
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                MLAnalysisResult result = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (result != null) {
+                    mirror(result);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to mirror ML result images: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void mirror(MLAnalysisResult result) {
+        String originalUrl = copy(result.getOriginalImageUrl());
+        String resultUrl = copy(result.getResultImageUrl());
+        if (Objects.equals(originalUrl, result.getOriginalImageUrl())
+                && Objects.equals(resultUrl, result.getResultImageUrl())) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                mlAnalysisResultRepository.updateImageUrls(result.getId(), originalUrl, resultUrl));
+    }
+
+    /**
+     *  ML 정적 경로면 내려받아 저장 후 저장소 URL, 아니거나 실패하면 원래 값
+     */
+    private String copy(String url) {
+        if (!isMlStatic(url) || !ImageStore.isSupported(url)) {
+            return url;
+        }
+        try {
+            byte[] bytes = restClient.get().uri(url).retrieve().body(byte[].class);
+            if (bytes == null || bytes.length == 0) {
+                failed.increment();
+                return url;
+            }
+            ImageStore.StoredImage stored = imageStore.put(bytes, url);
+            mirrored.increment();
+            thumbnailService.requestAsync(stored.fileName());
+            return stored.url();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Could not mirror ML image {}: {}", url, e.getMessage());
+            return url;
+        }
+    }
+
+    private static boolean isMlStatic(String url) {
+        return url != null && url.startsWith(ML_STATIC_PREFIX);
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ *  ML 추론 결과 캐시 (입력 내용 기준)
+ *  - 키: SHA-256(엔드포인트 + 파라미터 + 업로드 바이트)
+ *  - 메모리: 최대 ml-cache.max-entries 개, LRU 제거
+ *  - 메모리 miss 시 ml_analysis_results.input_hash 로 이전 결과 재사용 (ml-cache.db-fallback)
+ *  - 같은 입력이 동시에 들어오면 추론은 한 번만 실행하고 결과를 공유
+ */
+@Slf4j
+@Component
+public class MLInferenceCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean dbFallback;
+
+    private final Map<String, JsonNode> entries;
+    private final Map<String, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    public MLInferenceCache(MLAnalysisResultRepository mlAnalysisResultRepository,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${ml-cache.enabled:true}") boolean enabled,
+                            @Value("${ml-cache.max-entries:1000}") int maxEntries,
+                            @Value("${ml-cache.db-fallback:true}") boolean dbFallback) {
+        this.mlAnalysisResultRepository = mlAnalysisResultRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.dbFallback = dbFallback;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.memoryHits = lookupCounter(meterRegistry, "memory_hit");
+        this.dbHits = lookupCounter(meterRegistry, "db_hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        Gauge.builder("ml.cache.size", this, MLInferenceCache::size)
+                .description("추론 결과 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     *  캐시 키 계산 (업로드는 스트리밍으로 읽어 힙에 올리지 않는다)
+     *  @param params side, conf 등 결과에 영향을 주는 파라미터
+     */
+    public String key(MLEndpoint endpoint, Resource content, Object... params) {
+        MessageDigest digest = sha256();
+        digest.update(endpoint.getKey().getBytes(StandardCharsets.UTF_8));
+        for (Object param : params) {
+            digest.update((byte) 0);
+            digest.update(String.valueOf(param).getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+
+        try (InputStream in = content.getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력 해시 계산 실패: " + e.getMessage(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     *  캐시 조회 → 없으면 loader 실행 후 저장
+     *  loader 는 같은 키에 대해 동시에 한 번만 실행된다.
+     */
+    public JsonNode getOrCompute(String key, Supplier<JsonNode> loader) {
+        JsonNode cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<JsonNode> mine = new CompletableFuture<>();
+        CompletableFuture<JsonNode> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            misses.increment();
+            JsonNode result = loader.get();
+            put(key, result);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private JsonNode lookup(String key) {
+        JsonNode cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null) {
+            memoryHits.increment();
+            return cached;
+        }
+
+        if (!dbFallback) {
+            return null;
+        }
+        try {
+            JsonNode stored = mlAnalysisResultRepository.findFirstByInputHashOrderByIdDesc(key)
+                    .map(MLAnalysisResult::getAdditionalInfo)
+                    .map(this::readJson)
+                    .orElse(null);
+            if (stored != null) {
+                dbHits.increment();
+                put(key, stored);
+            }
+            return stored;
+        } catch (Exception e) {
+            log.warn("ML cache DB lookup failed, falling back to inference: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void put(String key, JsonNode value) {
+        if (value == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, value);
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private JsonNode readJson(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode await(CompletableFuture<JsonNode> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ml.cache.requests")
+                .tag("result", result)
+                .description("추론 결과 캐시 조회")
+                .register(meterRegistry);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.MLJobResponse;
+import com.example.automobile_risk.exception.MLServiceUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ *  ML 비동기 검사 작업
+ *  - 제출 즉시 jobId 반환, 추론은 제한된 워커 풀에서 실행 (요청 스레드는 추론을 기다리지 않는다)
+ *  - 결과는 GET /api/v1/ml/jobs/{id} 조회 또는 SSE 로 수신
+ *  - 결과 저장은 동기 API 와 동일하게 MLProxyService 를 거친다
+ */
+@Slf4j
+@Service
+public class MLJobService {
+
+    private final MLProxyService mlProxyService;
+    private final long retentionMillis;
+
+    private final Map<String, MLJob> jobs = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor workers;
+
+    public MLJobService(MLProxyService mlProxyService,
+                        @Value("${ml-job.workers:8}") int workerCount,
+                        @Value("${ml-job.queue-capacity:200}") int queueCapacity,
+                        @Value("${ml-job.retention-ms:600000}") long retentionMillis) {
+        this.mlProxyService = mlProxyService;
+        this.retentionMillis = retentionMillis;
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "ml-job-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public enum JobStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    /**
+     *  작업 상태
+     */
+    @Getter
+    public static class MLJob {
+        private final String id = UUID.randomUUID().toString();
+        private final String serviceType;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile JobStatus status = JobStatus.PENDING;
+        private volatile JsonNode result;
+        private volatile String error;
+        private volatile LocalDateTime completedAt;
+        @Getter(AccessLevel.NONE)
+        private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+        MLJob(String serviceType) {
+            this.serviceType = serviceType;
+        }
+
+        boolean isFinished() {
+            return status == JobStatus.DONE || status == JobStatus.FAILED;
+        }
+    }
+
+    // ========================================
+    //  제출
+    // ========================================
+
+    public MLJob submitWindshield(String side, MultipartFile file) {
+        return submitWithSpooledFile(MLEndpoint.WINDSHIELD, file, resource -> mlProxyService.analyzeWindshield(side, resource));
+    }
+
+    public MLJob submitEngine(MultipartFile file) {
+        return submitWithSpooledFile(MLEndpoint.ENGINE, file, mlProxyService::analyzeEngine);
+    }
+
+    public MLJob submitWeldingImageAuto(Integer offset) {
+        return submit(MLEndpoint.WELDING_IMAGE, () -> mlProxyService.analyzeWeldingImageAuto(offset), null);
+    }
+
+    public MLJob submitPaintAuto(Integer offset) {
+        return submit(MLEndpoint.PAINT, () -> mlProxyService.analyzePaintAuto(offset), null);
+    }
+
+    public MLJob submitPressVibration(Integer offset) {
+        return submit(MLEndpoint.PRESS_VIBRATION, () -> mlProxyService.analyzePressVibration(offset), null);
+    }
+
+    public MLJob submitPressImage(Integer offset) {
+        return submit(MLEndpoint.PRESS_IMAGE, () -> mlProxyService.analyzePressImage(offset), null);
+    }
+
+    public MLJob submitBodyAssemblyBatchAuto(Double confidence, Integer offset) {
+        return submit(MLEndpoint.BODY_BATCH, () -> mlProxyService.analyzeBodyAssemblyBatchAuto(confidence, offset), null);
+    }
+
+    // ========================================
+    //  조회
+    // ========================================
+
+    public Optional<MLJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    /**
+     *  완료 시 "result" 이벤트 한 번 전송 후 종료
+     */
+    public SseEmitter subscribe(MLJob job) {
+        SseEmitter emitter = new SseEmitter(retentionMillis);
+        job.subscribers.add(emitter);
+        emitter.onCompletion(() -> job.subscribers.remove(emitter));
+        emitter.onTimeout(() -> job.subscribers.remove(emitter));
+
+        // 구독 직전에 끝난 작업도 놓치지 않도록 등록 후 상태 확인
+        if (job.isFinished()) {
+            notifySubscribers(job);
+        }
+        return emitter;
+    }
+
+    /**
+     *  보관 기간이 지난 완료 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${ml-job.cleanup-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retentionMillis, ChronoUnit.MILLIS);
+        jobs.values().removeIf(job -> {
+            LocalDateTime completedAt = job.getCompletedAt();
+            return job.isFinished() && completedAt != null && completedAt.isBefore(threshold);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  업로드 파일은 요청 종료 시 컨테이너가 삭제하므로 작업 전용 파일로 옮겨 둔다.
+     *  (디스크 스풀된 파트는 transferTo 가 복사 없이 이동한다)
+     */
+    private MLJob submitWithSpooledFile(MLEndpoint endpoint, MultipartFile file, Function<FileSystemResource, JsonNode> task) {
+        Path spooled;
+        try {
+            String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+            spooled = Files.createTempFile("ml-job-", extension != null ? "." + extension : ".tmp");
+            Files.delete(spooled);
+            file.transferTo(spooled.toFile());
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 파일 스풀 실패: " + e.getMessage(), e);
+        }
+
+        return submit(endpoint, () -> task.apply(new FileSystemResource(spooled)), () -> {
+            try {
+                Files.deleteIfExists(spooled);
+            } catch (IOException e) {
+                log.warn("Failed to delete spooled upload {}", spooled, e);
+            }
+        });
+    }
+
+    private MLJob submit(MLEndpoint endpoint, Supplier<JsonNode> task, Runnable cleanup) {
+        MLJob job = new MLJob(endpoint.getServiceType());
+        jobs.put(job.getId(), job);
+
+        try {
+            workers.execute(() -> run(job, task, cleanup));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            if (cleanup != null) {
+                cleanup.run();
+            }
+            throw new MLServiceUnavailableException(endpoint.getKey(), "job queue full");
+        }
+
+        log.info("ML job {} submitted for {}", job.getId(), endpoint.getKey());
+        return job;
+    }
+
+    /**
+     *  완료 시각을 먼저 기록한 뒤 종료 상태를 공개한다 (정리 작업이 completedAt 없는 완료 작업을 보지 않도록)
+     *  Error 도 FAILED 로 남긴다 (RUNNING 에 멈춘 작업 방지)
+     */
+    private void run(MLJob job, Supplier<JsonNode> task, Runnable cleanup) {
+        job.status = JobStatus.RUNNING;
+        try {
+            job.result = task.get();
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.DONE;
+        } catch (Throwable e) {
+            log.warn("ML job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.completedAt = LocalDateTime.now();
+            job.status = JobStatus.FAILED;
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            if (cleanup != null) {
+                cleanup.run();
+            }
+            notifySubscribers(job);
+        }
+    }
+
+    private void notifySubscribers(MLJob job) {
+        MLJobResponse response = MLJobResponse.from(job);
+        for (SseEmitter emitter : job.subscribers) {
+            // 완료 처리와 구독이 겹쳐도 한 번만 전송
+            if (!job.subscribers.remove(emitter)) {
+                continue;
+            }
+            try {
+                emitter.send(SseEmitter.event().name("result").data(response));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
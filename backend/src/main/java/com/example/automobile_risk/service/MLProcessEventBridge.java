@@ -0,0 +1,324 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.entity.ProcessEvent;
+import com.example.automobile_risk.entity.enumclass.EventSource;
+import com.example.automobile_risk.entity.enumclass.EventType;
+import com.example.automobile_risk.entity.enumclass.ProductionStatus;
+import com.example.automobile_risk.repository.OrderProductionRepository;
+import com.example.automobile_risk.repository.OrderRepository;
+import com.example.automobile_risk.repository.ProcessEventRepository;
+import com.example.automobile_risk.service.event.DashboardChangedEvent;
+import com.example.automobile_risk.service.event.MLResultsSavedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  ML 분석 결과 → 공정 이벤트(ProcessEvent) 연계
+ *  - MLResultWriter 가 저장한 결과 중 이상 판정만 큐에 넣고, 백그라운드 스레드가 모아서 처리
+ *  - 서비스 타입별 이벤트 코드/공정/출처(VISION, SENSOR) 매핑, 현재 생산 중인 주문에 기록
+ *  - 같은 (주문, 이벤트 코드)는 dedup-window 안에서 한 건으로 합친다
+ *    창 안의 반복 검출은 기존 미해결 이벤트의 qtyAffected 에 더한다
+ *    최근 생성한 이벤트 id 는 메모리에 두고(커밋 후 기록), 없으면(재기동 등) DB 의 미해결 이벤트로 찾는다
+ *  - batch 단위로 한 트랜잭션 저장 → 영향받은 주문만 지연 예측 재계산 → DashboardChangedEvent 발행
+ *  - 큐가 가득 차면 버린다 (원본 분석 결과는 이미 저장되어 있음)
+ */
+@Slf4j
+@Service
+public class MLProcessEventBridge {
+
+    /**
+     *  서비스 타입별 공정 이벤트 매핑 (프레스 이미지는 항상 결함 클래스를 반환하는 분류기라 제외)
+     */
+    private record Mapping(String process, String eventCode, EventType eventType, EventSource source) {}
+
+    private static final Map<String, Mapping> MAPPINGS = Map.of(
+            "welding_image", new Mapping("welding", "welding_crack", EventType.DEFECT, EventSource.VISION),
+            "paint", new Mapping("paint", "paint_scratch", EventType.DEFECT, EventSource.VISION),
+            "body_assembly", new Mapping("body", "body_gap", EventType.DEFECT, EventSource.VISION),
+            "press_vibration", new Mapping("press", "press_minor", EventType.DEFECT, EventSource.SENSOR),
+            "engine", new Mapping("engine", "engine_vibration", EventType.BREAKDOWN, EventSource.SENSOR),
+            "windshield", new Mapping("windshield", "windshield_crack", EventType.DEFECT, EventSource.SENSOR)
+    );
+    private static final Mapping PRESS_MAJOR =
+            new Mapping("press", "press_major", EventType.BREAKDOWN, EventSource.SENSOR);
+    private static final double PRESS_MAJOR_ERROR_RATIO = 2.0;
+
+    private final ProcessEventRepository processEventRepository;
+    private final OrderProductionRepository orderProductionRepository;
+    private final OrderRepository orderRepository;
+    private final DelayPredictionService delayPredictionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long dedupWindowMillis;
+
+    private final BlockingQueue<MLAnalysisResult> queue;
+    private final Map<String, Emitted> lastEmitted = new ConcurrentHashMap<>();
+    private final Thread worker = new Thread(this::drainLoop, "ml-event-bridge");
+    private volatile boolean running = true;
+
+    private final Counter created;
+    private final Counter suppressed;
+    private final Counter dropped;
+    private final Counter unassigned;
+
+    public MLProcessEventBridge(ProcessEventRepository processEventRepository,
+                                OrderProductionRepository orderProductionRepository,
+                                OrderRepository orderRepository,
+                                DelayPredictionService delayPredictionService,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${ml-event-bridge.enabled:true}") boolean enabled,
+                                @Value("${ml-event-bridge.queue-capacity:10000}") int queueCapacity,
+                                @Value("${ml-event-bridge.batch-size:200}") int batchSize,
+                                @Value("${ml-event-bridge.flush-interval-ms:1000}") long flushIntervalMillis,
+                                @Value("${ml-event-bridge.dedup-window-ms:600000}") long dedupWindowMillis) {
+        this.processEventRepository = processEventRepository;
+        this.orderProductionRepository = orderProductionRepository;
+        this.orderRepository = orderRepository;
+        this.delayPredictionService = delayPredictionService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.dedupWindowMillis = dedupWindowMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("ml.event-bridge.queue", queue, BlockingQueue::size)
+                .description("공정 이벤트 변환 대기 중인 이상 판정 수")
+                .register(meterRegistry);
+        this.created = Counter.builder("ml.event-bridge.created")
+                .description("생성된 공정 이벤트 수")
+                .register(meterRegistry);
+        this.suppressed = Counter.builder("ml.event-bridge.suppressed")
+                .description("중복 구간 안이라 기존 이벤트의 qtyAffected 로 합쳐진 이상 판정 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("ml.event-bridge.dropped")
+                .description("큐 포화로 버린 이상 판정 수")
+                .register(meterRegistry);
+        this.unassigned = Counter.builder("ml.event-bridge.unassigned")
+                .description("생산 중인 주문이 없어 기록하지 못한 이상 판정 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("ML process event bridge disabled (ml-event-bridge.enabled=false)");
+            return;
+        }
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     *  저장된 분석 결과 중 매핑 대상 이상 판정만 큐에 넣는다 (writer 스레드, 즉시 반환)
+     */
+    @EventListener
+    public void onResultsSaved(MLResultsSavedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        for (MLAnalysisResult result : event.results()) {
+            if (!result.isAnomalous() || !MAPPINGS.containsKey(result.getServiceType())) {
+                continue;
+            }
+            if (!running || !queue.offer(result)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(flushIntervalMillis * 2);
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void drainLoop() {
+        List<MLAnalysisResult> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MLAnalysisResult first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Failed to convert {} ML results to process events: {}", batch.size(), e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     *  (이벤트 코드)별로 합쳐 저장 → 지연 예측 재계산 → 대시보드 갱신
+     */
+    private void process(List<MLAnalysisResult> batch) {
+        Long orderId = currentOrderId();
+        if (orderId == null) {
+            unassigned.increment(batch.size());
+            return;
+        }
+
+        Map<Mapping, Aggregate> byMapping = new LinkedHashMap<>();
+        for (MLAnalysisResult result : batch) {
+            Mapping mapping = mappingOf(result);
+            byMapping.computeIfAbsent(mapping, m -> new Aggregate()).add(result);
+        }
+
+        long now = System.currentTimeMillis();
+        evictExpired(now);
+
+        Map<String, ProcessEvent> createdByKey = new LinkedHashMap<>();
+        int merged = transactionTemplate.execute(status -> {
+            int repeats = 0;
+            for (Map.Entry<Mapping, Aggregate> entry : byMapping.entrySet()) {
+                Mapping mapping = entry.getKey();
+                Aggregate aggregate = entry.getValue();
+                Optional<ProcessEvent> open = findOpenEvent(orderId, mapping.eventCode(), now);
+                if (open.isPresent()) {
+                    open.get().addAffected(aggregate.count);
+                    repeats += aggregate.count;
+                    continue;
+                }
+                createdByKey.put(keyOf(orderId, mapping.eventCode()), ProcessEvent.create(
+                        orderRepository.getReferenceById(orderId),
+                        mapping.process(), mapping.eventType(), mapping.eventCode(), aggregate.severity,
+                        aggregate.detectedAt, null, aggregate.count, false, mapping.source()
+                ));
+            }
+            processEventRepository.saveAll(createdByKey.values());
+            return repeats;
+        });
+
+        // 커밋된 뒤에만 기록 (롤백된 이벤트를 기준으로 합치지 않도록)
+        createdByKey.forEach((key, event) -> lastEmitted.put(key, new Emitted(event.getId(), now)));
+        suppressed.increment(merged);
+        if (createdByKey.isEmpty() && merged == 0) {
+            return;
+        }
+        created.increment(createdByKey.size());
+        log.info("Recorded {} process events ({} repeats merged) from ML results for order {}",
+                createdByKey.size(), merged, orderId);
+
+        try {
+            delayPredictionService.predictForOrder(orderId);
+        } catch (Exception e) {
+            log.warn("Delay prediction refresh for order {} failed: {}", orderId, e.getMessage());
+        }
+        eventPublisher.publishEvent(new DashboardChangedEvent("ml-anomaly"));
+    }
+
+    private Long currentOrderId() {
+        List<Long> orderIds = orderProductionRepository.findOrderIdsByProductionStatus(
+                ProductionStatus.IN_PROGRESS, PageRequest.of(0, 1));
+        return orderIds.isEmpty() ? null : orderIds.get(0);
+    }
+
+    /**
+     *  창 안에 만든 미해결 이벤트 (반복 검출을 합칠 대상)
+     *  메모리에 있으면 그 id 로, 없으면(재기동 등) DB 의 최근 미해결 이벤트로 찾는다
+     */
+    private Optional<ProcessEvent> findOpenEvent(Long orderId, String eventCode, long now) {
+        Emitted last = lastEmitted.get(keyOf(orderId, eventCode));
+        if (last != null) {
+            if (now - last.at() >= dedupWindowMillis) {
+                return Optional.empty();
+            }
+            return processEventRepository.findById(last.eventId())
+                    .filter(event -> event.getResolvedAt() == null);
+        }
+        return processEventRepository
+                .findFirstByOrderIdAndEventCodeAndResolvedAtIsNullAndDetectedAtAfterOrderByDetectedAtDesc(
+                        orderId, eventCode, LocalDateTime.now().minusNanos(dedupWindowMillis * 1_000_000));
+    }
+
+    private void evictExpired(long now) {
+        lastEmitted.values().removeIf(last -> now - last.at() >= dedupWindowMillis);
+    }
+
+    private static String keyOf(Long orderId, String eventCode) {
+        return orderId + ":" + eventCode;
+    }
+
+    private static Mapping mappingOf(MLAnalysisResult result) {
+        if ("press_vibration".equals(result.getServiceType())
+                && result.getReconstructionError() != null && result.getThreshold() != null
+                && result.getReconstructionError() >= result.getThreshold() * PRESS_MAJOR_ERROR_RATIO) {
+            return PRESS_MAJOR;
+        }
+        return MAPPINGS.get(result.getServiceType());
+    }
+
+    /**
+     *  심각도 1~3: 프레스 진동은 재구성 오차/임계값 비율, 나머지는 신뢰도 (도장은 0~100 스케일)
+     */
+    private static int severityOf(MLAnalysisResult result) {
+        if (result.getReconstructionError() != null && result.getThreshold() != null && result.getThreshold() > 0) {
+            double ratio = result.getReconstructionError() / result.getThreshold();
+            return ratio >= 3.0 ? 3 : ratio >= 1.5 ? 2 : 1;
+        }
+        if (result.getConfidence() != null) {
+            double confidence = result.getConfidence() > 1.0 ? result.getConfidence() / 100.0 : result.getConfidence();
+            return confidence >= 0.9 ? 2 : 1;
+        }
+        return 1;
+    }
+
+    /**
+     *  (주문, 이벤트 코드)별 최근 생성 이벤트 id 와 생성 시각
+     */
+    private record Emitted(Long eventId, long at) {}
+
+    /**
+     *  같은 이벤트 코드로 합쳐지는 이상 판정 (건수, 최대 심각도, 최초 검출 시각)
+     */
+    private static final class Aggregate {
+        private int count;
+        private int severity = 1;
+        private LocalDateTime detectedAt;
+
+        void add(MLAnalysisResult result) {
+            count++;
+            severity = Math.max(severity, severityOf(result));
+            LocalDateTime at = result.getCreatedDate() != null ? result.getCreatedDate() : LocalDateTime.now();
+            if (detectedAt == null || at.isBefore(detectedAt)) {
+                detectedAt = at;
+            }
+        }
+    }
+}
@@ -1,67 +1,96 @@
 package com.example.automobile_risk.service;
 
-import com.example.automobile_risk.entity.MLAnalysisResult;
-import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.example.automobile_risk.exception.MLServiceUnavailableException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MLProxyService {
 
-    private final RestTemplate restTemplate;
-    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+    private final MLGatewayClient mlGatewayClient;
+    private final MLResultWriter mlResultWriter;
     private final ObjectMapper objectMapper;
+    private final MLBatchCoalescer mlBatchCoalescer;
+    private final MLInferenceCache mlInferenceCache;
+    private final MLReadAheadCache mlReadAheadCache;
+    private final MLResultFieldExtractor mlResultFieldExtractor;
 
-    @Value("${ml-service.base-url:http://localhost:8000}")
-    private String mlServiceBaseUrl;
+    @Value("${ml-batch.enabled:true}")
+    private boolean batchingEnabled;
 
     /**
      * FastAPI 엔드포인트 호출 및 결과 저장
      */
-    public JsonNode callMLServiceAndSave(String endpoint, MultiValueMap<String, Object> body, String serviceType) {
-        try {
-            // 1. FastAPI 호출
-            String url = mlServiceBaseUrl + endpoint;
-            log.info("Calling ML Service: {}", url);
+    public JsonNode callMLServiceAndSave(MLEndpoint endpoint, MultiValueMap<String, Object> body) {
+        return callMLServiceAndSave(endpoint, "", body);
+    }
+
+    /**
+     * FastAPI 엔드포인트 호출 및 결과 저장 (쿼리 파라미터 포함)
+     */
+    public JsonNode callMLServiceAndSave(MLEndpoint endpoint, String query, MultiValueMap<String, Object> body) {
+        return callMLServiceAndSave(endpoint, query, body, null);
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+    private JsonNode callMLServiceAndSave(MLEndpoint endpoint, String query, MultiValueMap<String, Object> body, String inputHash) {
+        return parse(endpoint, callRawAndSave(endpoint, query, MediaType.MULTIPART_FORM_DATA, body, inputHash));
+    }
+
+    /**
+     * 파일 없이 FastAPI 호출 (프레스 진동 등)
+     */
+    public JsonNode callMLServiceWithoutFile(MLEndpoint endpoint) {
+        return callMLServiceWithoutFile(endpoint, null);
+    }
 
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+    /**
+     * 파일 없이 FastAPI 호출 (offset 지원)
+     * offset 을 주면 FastAPI 가 offset % 샘플 수 번째 샘플을 상태 없이 추론하고,
+     * null 이면 FastAPI 의 공유 커서로 다음 샘플을 추론한다.
+     */
+    public JsonNode callMLServiceWithoutFile(MLEndpoint endpoint, Integer offset) {
+        return parse(endpoint, callMLServiceWithoutFileRaw(endpoint, offset));
+    }
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    String.class
-            );
+    /**
+     * 파일 없이 FastAPI 호출 후 응답 원문 그대로 반환 (pass-through)
+     */
+    public byte[] callMLServiceWithoutFileRaw(MLEndpoint endpoint, Integer offset) {
+        return callRawAndSave(endpoint, offsetQuery(offset), MediaType.APPLICATION_JSON, "{}", null);
+    }
 
-            // 2. 응답 파싱
-            JsonNode jsonResponse = objectMapper.readTree(response.getBody());
+    /**
+     * FastAPI 호출 후 응답 원문을 그대로 저장/반환
+     * 트리로 파싱하지 않고 스트리밍 파서로 인덱싱 필드만 추출한다.
+     */
+    private byte[] callRawAndSave(MLEndpoint endpoint, String query, MediaType contentType, Object body, String inputHash) {
+        String serviceType = endpoint.getServiceType();
+        try {
+            log.info("Calling ML Service: {}{}", endpoint.getPath(), query);
 
-            // 3. DB에 저장
-            saveAnalysisResult(jsonResponse, serviceType);
+            byte[] response = mlGatewayClient.postForBytes(endpoint, query, contentType, body);
+            saveRawResult(response, serviceType, inputHash);
 
-            log.info("ML Service call successful for {}: {}", serviceType, jsonResponse);
+            log.info("ML Service call successful for {} ({} bytes)", serviceType, response.length);
 
-            return jsonResponse;
+            return response;
 
+        } catch (MLServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling ML service for {}: {}", serviceType, e.getMessage(), e);
             throw new RuntimeException("ML 서비스 호출 실패: " + e.getMessage(), e);
@@ -69,39 +98,34 @@ public class MLProxyService {
     }
 
     /**
-     * 파일 없이 FastAPI 호출 (프레스 진동 등)
+     * JsonNode 가 필요한 호출자(작업 큐, 캐시, 스케줄러 이벤트)용 파싱
      */
-    public JsonNode callMLServiceWithoutFile(String endpoint, String serviceType) {
-        return callMLServiceWithoutFile(endpoint, serviceType, 0);
+    private JsonNode parse(MLEndpoint endpoint, byte[] response) {
+        try {
+            return objectMapper.readTree(response);
+        } catch (IOException e) {
+            log.error("Invalid ML service response for {}: {}", endpoint.getServiceType(), e.getMessage());
+            throw new RuntimeException("ML 서비스 응답 파싱 실패: " + e.getMessage(), e);
+        }
     }
 
     /**
-     * 파일 없이 FastAPI 호출 (offset 지원)
+     * 순차 offset 호출 (선행 조회 결과가 있으면 사용) 후 결과 저장
      */
-    public JsonNode callMLServiceWithoutFile(String endpoint, String serviceType, int offset) {
-        try {
-            // offset 파라미터 추가
-            String separator = endpoint.contains("?") ? "&" : "?";
-            String url = mlServiceBaseUrl + endpoint + separator + "offset=" + offset;
-            log.info("Calling ML Service (no file): {} with offset: {}", url, offset);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> requestEntity = new HttpEntity<>("{}", headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    String.class
-            );
-
-            JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-            saveAnalysisResult(jsonResponse, serviceType);
+    private JsonNode callWithReadAheadAndSave(MLEndpoint endpoint, Integer offset) {
+        if (offset == null || !mlReadAheadCache.supports(endpoint)) {
+            return callMLServiceWithoutFile(endpoint, offset);
+        }
 
+        String serviceType = endpoint.getServiceType();
+        try {
+            JsonNode jsonResponse = mlReadAheadCache.get(endpoint, offset,
+                    next -> mlGatewayClient.post(endpoint, offsetQuery(next), MediaType.APPLICATION_JSON, "{}"));
+            saveAnalysisResult(jsonResponse, serviceType, null);
             return jsonResponse;
 
+        } catch (MLServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error calling ML service for {}: {}", serviceType, e.getMessage(), e);
             throw new RuntimeException("ML 서비스 호출 실패: " + e.getMessage(), e);
@@ -109,51 +133,32 @@ public class MLProxyService {
     }
 
     /**
-     * ML 분석 결과를 DB에 저장
+     * 동시 요청을 micro-batch 로 묶어 호출 후 결과 저장 (윈드실드/엔진)
      */
-    private void saveAnalysisResult(JsonNode jsonResponse, String serviceType) {
+    private JsonNode callCoalescedAndSave(MLEndpoint endpoint, String side, Resource file, String inputHash) {
+        String serviceType = endpoint.getServiceType();
         try {
-            MLAnalysisResult result = MLAnalysisResult.builder()
-                    .serviceType(serviceType)
-                    .build();
+            JsonNode jsonResponse = mlBatchCoalescer.submit(endpoint, side, file).join();
+            saveAnalysisResult(jsonResponse, serviceType, inputHash);
+            return jsonResponse;
 
-            // 공통 필드 추출
-            if (jsonResponse.has("status")) {
-                result.setStatus(jsonResponse.get("status").asText());
-            }
-            if (jsonResponse.has("judgement")) {
-                result.setStatus(jsonResponse.get("judgement").asText());
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof MLServiceUnavailableException unavailable) {
+                throw unavailable;
             }
-            if (jsonResponse.has("prediction")) {
-                result.setPrediction(jsonResponse.get("prediction").asInt());
-            }
-            if (jsonResponse.has("confidence")) {
-                result.setConfidence(jsonResponse.get("confidence").asDouble());
-            }
-            if (jsonResponse.has("reconstruction_error")) {
-                result.setReconstructionError(jsonResponse.get("reconstruction_error").asDouble());
-            }
-            if (jsonResponse.has("threshold")) {
-                result.setThreshold(jsonResponse.get("threshold").asDouble());
-            }
-            if (jsonResponse.has("is_anomaly")) {
-                result.setIsAnomaly(jsonResponse.get("is_anomaly").asInt());
-            }
-            if (jsonResponse.has("original_image_url")) {
-                result.setOriginalImageUrl(jsonResponse.get("original_image_url").asText());
-            }
-            if (jsonResponse.has("result_image_url")) {
-                result.setResultImageUrl(jsonResponse.get("result_image_url").asText());
-            }
-            if (jsonResponse.has("message")) {
-                result.setMessage(jsonResponse.get("message").asText());
-            }
-
-            // 전체 JSON을 additionalInfo에 저장
-            result.setAdditionalInfo(jsonResponse.toString());
+            log.error("Error calling ML service for {}: {}", serviceType, cause.getMessage(), cause);
+            throw new RuntimeException("ML 서비스 호출 실패: " + cause.getMessage(), cause);
+        }
+    }
 
-            mlAnalysisResultRepository.save(result);
-            log.info("Saved ML analysis result for {}: ID={}", serviceType, result.getId());
+    /**
+     * ML 분석 결과를 DB에 저장 (write-behind: 큐에 넣고 즉시 반환)
+     */
+    private void saveAnalysisResult(JsonNode jsonResponse, String serviceType, String inputHash) {
+        try {
+            mlResultWriter.enqueue(mlResultFieldExtractor.fromTree(jsonResponse, serviceType, inputHash));
+            log.debug("Queued ML analysis result for {}", serviceType);
 
         } catch (Exception e) {
             log.error("Error saving ML analysis result: {}", e.getMessage(), e);
@@ -162,106 +167,144 @@ public class MLProxyService {
     }
 
     /**
-     * MultipartFile을 임시 파일로 변환
+     * ML 응답 원문을 DB에 저장 (원문은 additionalInfo 에 그대로)
      */
-    public File convertMultipartFileToFile(MultipartFile multipartFile) throws IOException {
-        File tempFile = File.createTempFile("upload_", "_" + multipartFile.getOriginalFilename());
-        try (FileOutputStream fos = new FileOutputStream(tempFile)) {
-            fos.write(multipartFile.getBytes());
+    private void saveRawResult(byte[] response, String serviceType, String inputHash) {
+        try {
+            mlResultWriter.enqueue(mlResultFieldExtractor.fromRaw(response, serviceType, inputHash));
+            log.debug("Queued ML analysis result for {}", serviceType);
+
+        } catch (Exception e) {
+            log.error("Error saving ML analysis result: {}", e.getMessage(), e);
+            // DB 저장 실패해도 API 응답은 반환
         }
-        return tempFile;
     }
 
     /**
      * 윈드실드 분석
+     * 업로드 파트를 힙에 올리거나 임시 파일로 복사하지 않고, 요청 본문으로 그대로 스트리밍한다.
      */
-    public JsonNode analyzeWindshield(String side, MultipartFile file) throws IOException {
-        File tempFile = convertMultipartFileToFile(file);
-        try {
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("side", side);
-            body.add("file", new FileSystemResource(tempFile));
+    public JsonNode analyzeWindshield(String side, MultipartFile file) {
+        return analyzeWindshield(side, file.getResource());
+    }
 
-            return callMLServiceAndSave("/api/v1/smartfactory/windshield", body, "windshield");
-        } finally {
-            tempFile.delete();
+    /**
+     * 윈드실드 분석 (스풀된 파일 등 임의 Resource)
+     * 같은 side + 같은 파일이면 이전 결과를 그대로 반환한다.
+     */
+    public JsonNode analyzeWindshield(String side, Resource file) {
+        if (!mlInferenceCache.isEnabled()) {
+            return inferWindshield(side, file, null);
         }
+        String inputHash = mlInferenceCache.key(MLEndpoint.WINDSHIELD, file, side.trim().toLowerCase());
+        return mlInferenceCache.getOrCompute(inputHash, () -> inferWindshield(side, file, inputHash));
     }
 
     /**
      * 엔진 진동 분석
      */
-    public JsonNode analyzeEngine(MultipartFile file) throws IOException {
-        File tempFile = convertMultipartFileToFile(file);
-        try {
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", new FileSystemResource(tempFile));
+    public JsonNode analyzeEngine(MultipartFile file) {
+        return analyzeEngine(file.getResource());
+    }
+
+    /**
+     * 엔진 진동 분석 (스풀된 파일 등 임의 Resource)
+     * 같은 파일이면 이전 결과를 그대로 반환한다.
+     */
+    public JsonNode analyzeEngine(Resource file) {
+        if (!mlInferenceCache.isEnabled()) {
+            return inferEngine(file, null);
+        }
+        String inputHash = mlInferenceCache.key(MLEndpoint.ENGINE, file);
+        return mlInferenceCache.getOrCompute(inputHash, () -> inferEngine(file, inputHash));
+    }
 
-            return callMLServiceAndSave("/api/v1/smartfactory/engine", body, "engine");
-        } finally {
-            tempFile.delete();
+    private JsonNode inferWindshield(String side, Resource file, String inputHash) {
+        if (batchingEnabled) {
+            return callCoalescedAndSave(MLEndpoint.WINDSHIELD, side, file, inputHash);
         }
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("side", side);
+        body.add("file", file);
+
+        return callMLServiceAndSave(MLEndpoint.WINDSHIELD, "", body, inputHash);
+    }
+
+    private JsonNode inferEngine(Resource file, String inputHash) {
+        if (batchingEnabled) {
+            return callCoalescedAndSave(MLEndpoint.ENGINE, null, file, inputHash);
+        }
+
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("file", file);
+
+        return callMLServiceAndSave(MLEndpoint.ENGINE, "", body, inputHash);
     }
 
     /**
      * 용접 이미지 분석 (자동)
+     * offset 을 순서대로 넘기면 다음 offset 들을 미리 추론해 둔다.
      */
-    public JsonNode analyzeWeldingImageAuto(int offset) {
-        return callMLServiceWithoutFile("/api/v1/smartfactory/welding/image/auto", "welding_image", offset);
+    public JsonNode analyzeWeldingImageAuto(Integer offset) {
+        return callWithReadAheadAndSave(MLEndpoint.WELDING_IMAGE, offset);
     }
 
     /**
      * 도장 품질 분석 (자동)
+     * FastAPI 가 추론마다 결과를 직접 저장하므로 선행 조회하지 않는다.
      */
-    public JsonNode analyzePaintAuto(int offset) {
-        return callMLServiceWithoutFile("/api/v1/smartfactory/paint/auto", "paint", offset);
+    public JsonNode analyzePaintAuto(Integer offset) {
+        return callMLServiceWithoutFile(MLEndpoint.PAINT, offset);
     }
 
     /**
      * 프레스 진동 분석
      */
-    public JsonNode analyzePressVibration(int offset) {
-        return callMLServiceWithoutFile("/api/v1/smartfactory/press/vibration", "press_vibration", offset);
+    public JsonNode analyzePressVibration(Integer offset) {
+        return callMLServiceWithoutFile(MLEndpoint.PRESS_VIBRATION, offset);
     }
 
     /**
-     * 프레스 이미지 분석
+     * 프레스 진동 분석 (응답 원문 그대로)
      */
-    public JsonNode analyzePressImage(int offset) {
-        return callMLServiceWithoutFile("/api/v1/smartfactory/press/image", "press_image", offset);
+    public byte[] analyzePressVibrationRaw(Integer offset) {
+        return callMLServiceWithoutFileRaw(MLEndpoint.PRESS_VIBRATION, offset);
     }
 
     /**
-     * 차체 조립 분석 (자동 배치)
+     * 프레스 이미지 분석
      */
-    public JsonNode analyzeBodyAssemblyBatchAuto(Double confidence, int offset) {
-        try {
-            String url = mlServiceBaseUrl + "/api/v1/smartfactory/body/inspect/batch/auto?offset=" + offset;
-            log.info("Calling ML Service (body batch auto): {} with offset: {}", url, offset);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("conf", confidence != null ? confidence : 0.5);
+    public JsonNode analyzePressImage(Integer offset) {
+        return callMLServiceWithoutFile(MLEndpoint.PRESS_IMAGE, offset);
+    }
 
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
+    /**
+     * 프레스 이미지 분석 (응답 원문 그대로)
+     */
+    public byte[] analyzePressImageRaw(Integer offset) {
+        return callMLServiceWithoutFileRaw(MLEndpoint.PRESS_IMAGE, offset);
+    }
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    String.class
-            );
+    /**
+     * 차체 조립 분석 (자동 배치)
+     */
+    public JsonNode analyzeBodyAssemblyBatchAuto(Double confidence, Integer offset) {
+        return parse(MLEndpoint.BODY_BATCH, analyzeBodyAssemblyBatchAutoRaw(confidence, offset));
+    }
 
-            JsonNode jsonResponse = objectMapper.readTree(response.getBody());
-            saveAnalysisResult(jsonResponse, "body_assembly");
+    /**
+     * 차체 조립 분석 (자동 배치, 응답 원문 그대로)
+     * 검출 목록이 커서 트리 파싱/재직렬화 없이 원문을 클라이언트와 DB 에 그대로 넘긴다.
+     */
+    public byte[] analyzeBodyAssemblyBatchAutoRaw(Double confidence, Integer offset) {
+        MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+        body.add("conf", confidence != null ? confidence : 0.5);
 
-            return jsonResponse;
+        return callRawAndSave(MLEndpoint.BODY_BATCH, offsetQuery(offset), MediaType.MULTIPART_FORM_DATA, body, null);
+    }
 
-        } catch (Exception e) {
-            log.error("Error calling ML service for body assembly: {}", e.getMessage(), e);
-            throw new RuntimeException("ML 서비스 호출 실패: " + e.getMessage(), e);
-        }
+    private static String offsetQuery(Integer offset) {
+        return offset != null ? "?offset=" + offset : "";
     }
 }
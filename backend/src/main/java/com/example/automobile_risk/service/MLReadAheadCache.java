@@ -0,0 +1,205 @@
+package com.example.automobile_risk.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+
+/**
+ *  순차 offset 선행 조회 (용접 이미지 auto)
+ *  - FastAPI 는 ?offset=N 이면 N % 샘플 수 번째 샘플을 상태 없이 추론하므로 미리 추론해도 같은 결과다
+ *  - offset N 을 응답한 뒤 N+1..N+depth 를 백그라운드로 미리 추론해 메모리에 보관
+ *  - 다음 요청이 N+1 이면 보관된 결과(또는 진행 중인 호출)를 사용
+ *  - N+1 이 아닌 offset 이 오면(건너뜀/되돌아감) 보관분을 모두 버린다
+ *  - 엔드포인트별 max-entries 개, max-bytes(응답 원문 크기 기준) 이내로 유지
+ *  선행 조회 결과는 실제로 응답될 때만 저장된다 (저장은 호출자 몫).
+ *  도장 auto 는 FastAPI 가 추론할 때마다 결과를 백엔드에 직접 저장(_save_to_backend)하므로 선행 조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class MLReadAheadCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int depth;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    private final Map<MLEndpoint, Window> windows = new EnumMap<>(MLEndpoint.class);
+    private final ExecutorService prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public MLReadAheadCache(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${ml-read-ahead.enabled:true}") boolean enabled,
+                            @Value("${ml-read-ahead.depth:3}") int depth,
+                            @Value("${ml-read-ahead.max-entries:16}") int maxEntries,
+                            @Value("${ml-read-ahead.max-bytes:8388608}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.depth = depth;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+
+        for (MLEndpoint endpoint : new MLEndpoint[]{MLEndpoint.WELDING_IMAGE}) {
+            windows.put(endpoint, new Window(endpoint, meterRegistry));
+        }
+    }
+
+    /**
+     *  선행 조회 가능 여부
+     */
+    public boolean supports(MLEndpoint endpoint) {
+        return enabled && windows.containsKey(endpoint);
+    }
+
+    /**
+     *  offset 결과 반환 (보관분이 있으면 사용, 없으면 fetcher 로 직접 호출) 후 다음 구간 선행 조회
+     *  @param fetcher offset → 응답 원문(JSON)
+     */
+    public JsonNode get(MLEndpoint endpoint, int offset, IntFunction<String> fetcher) {
+        Window window = windows.get(endpoint);
+        CompletableFuture<Entry> prefetched = window.take(offset);
+
+        JsonNode result = null;
+        if (prefetched != null) {
+            try {
+                result = prefetched.join().json();
+                window.hits.increment();
+            } catch (CompletionException e) {
+                log.debug("Read-ahead for {} offset {} failed, fetching directly", endpoint.getKey(), offset);
+            }
+        }
+        if (result == null) {
+            window.misses.increment();
+            result = parse(fetcher.apply(offset)).json();
+        }
+
+        window.prefetchAfter(offset, fetcher);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private Entry parse(String raw) {
+        try {
+            return new Entry(objectMapper.readTree(raw), raw.length());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Entry(JsonNode json, long bytes) {}
+
+    /**
+     *  엔드포인트별 선행 조회 구간
+     */
+    private final class Window {
+        private final MLEndpoint endpoint;
+        private final TreeMap<Integer, CompletableFuture<Entry>> entries = new TreeMap<>();
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter gaps;
+        private Integer lastServed;
+        private long generation;
+        private long bytes;
+
+        Window(MLEndpoint endpoint, MeterRegistry meterRegistry) {
+            this.endpoint = endpoint;
+            this.hits = requestCounter(meterRegistry, "hit");
+            this.misses = requestCounter(meterRegistry, "miss");
+            this.gaps = Counter.builder("ml.read-ahead.invalidations")
+                    .tag("endpoint", endpoint.getKey())
+                    .description("순차가 아닌 offset 요청으로 선행 조회분을 버린 횟수")
+                    .register(meterRegistry);
+        }
+
+        /**
+         *  offset 의 보관분을 꺼낸다. 순차가 아니면 구간 전체 무효화.
+         */
+        synchronized CompletableFuture<Entry> take(int offset) {
+            if (lastServed != null && offset != lastServed + 1) {
+                if (!entries.isEmpty()) {
+                    gaps.increment();
+                }
+                invalidate();
+            }
+            lastServed = offset;
+
+            CompletableFuture<Entry> future = entries.remove(offset);
+            if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+                bytes -= future.join().bytes();
+            }
+            return future;
+        }
+
+        synchronized void prefetchAfter(int offset, IntFunction<String> fetcher) {
+            long current = generation;
+            for (int next = offset + 1; next <= offset + depth && entries.size() < maxEntries; next++) {
+                if (entries.containsKey(next)) {
+                    continue;
+                }
+                int target = next;
+                CompletableFuture<Entry> future =
+                        CompletableFuture.supplyAsync(() -> parse(fetcher.apply(target)), prefetchExecutor);
+                entries.put(target, future);
+                future.whenComplete((entry, error) -> onPrefetched(current, target, future, entry, error));
+            }
+        }
+
+        private synchronized void onPrefetched(long requestedGeneration, int offset, CompletableFuture<Entry> future,
+                                               Entry entry, Throwable error) {
+            // 무효화되었거나 이미 꺼내간 항목
+            if (requestedGeneration != generation || entries.get(offset) != future) {
+                return;
+            }
+            if (error != null) {
+                entries.remove(offset);
+                return;
+            }
+            bytes += entry.bytes();
+            // 용량 초과 시 가장 먼 offset 부터 제거
+            while (bytes > maxBytes && !entries.isEmpty()) {
+                CompletableFuture<Entry> evicted = entries.pollLastEntry().getValue();
+                if (evicted.isDone() && !evicted.isCompletedExceptionally()) {
+                    bytes -= evicted.join().bytes();
+                }
+            }
+        }
+
+        private void invalidate() {
+            entries.clear();
+            bytes = 0;
+            generation++;
+        }
+
+        private Counter requestCounter(MeterRegistry meterRegistry, String result) {
+            return Counter.builder("ml.read-ahead.requests")
+                    .tag("endpoint", endpoint.getKey())
+                    .tag("result", result)
+                    .description("선행 조회 적중 여부")
+                    .register(meterRegistry);
+        }
+    }
+}
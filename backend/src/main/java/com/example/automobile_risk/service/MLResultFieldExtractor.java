@@ -0,0 +1,164 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ *  ML 응답 → MLAnalysisResult 변환 (인덱싱 필드 추출 + 원문 보관)
+ *  - fromRaw: 응답 원문 바이트를 JsonParser 로 한 번만 훑어 최상위 필드만 읽는다 (트리 생성/재직렬화 없음)
+ *    중첩 객체/배열(검출 목록 등)은 skipChildren 으로 건너뛰고, 원문은 그대로 additionalInfo 에 저장
+ *  - fromTree: 이미 트리가 있는 경로(micro-batch 분할, 캐시, 선행 조회)용
+ *  - 두 경로 모두 judgement 가 있으면 status 보다 우선, 둘 다 없으면 차체 부품 판정 → is_anomaly 순으로 보정
+ */
+@Component
+@RequiredArgsConstructor
+public class MLResultFieldExtractor {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     *  응답 원문(UTF-8 JSON)에서 추출
+     */
+    public MLAnalysisResult fromRaw(byte[] raw, String serviceType, String inputHash) throws IOException {
+        MLAnalysisResult result = MLAnalysisResult.builder()
+                .serviceType(serviceType)
+                .inputHash(inputHash)
+                .build();
+
+        String status = null;
+        String judgement = null;
+        String partJudgement = null;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(raw)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("ML response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    if ("results".equals(field) && value == JsonToken.START_OBJECT) {
+                        partJudgement = readPartJudgement(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    continue;
+                }
+                switch (field) {
+                    case "status" -> status = parser.getValueAsString();
+                    case "judgement" -> judgement = parser.getValueAsString();
+                    case "prediction" -> result.setPrediction(parser.getValueAsInt());
+                    case "confidence" -> result.setConfidence(parser.getValueAsDouble());
+                    case "reconstruction_error" -> result.setReconstructionError(parser.getValueAsDouble());
+                    case "threshold" -> result.setThreshold(parser.getValueAsDouble());
+                    case "is_anomaly" -> result.setIsAnomaly(parser.getValueAsInt());
+                    case "original_image_url" -> result.setOriginalImageUrl(parser.getValueAsString());
+                    case "result_image_url" -> result.setResultImageUrl(parser.getValueAsString());
+                    case "message" -> result.setMessage(parser.getValueAsString());
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        result.setStatus(resolveStatus(judgement != null ? judgement : status != null ? status : partJudgement, result));
+        result.setAdditionalInfo(new String(raw, StandardCharsets.UTF_8));
+        return result;
+    }
+
+    /**
+     *  파싱된 트리에서 추출
+     */
+    public MLAnalysisResult fromTree(JsonNode jsonResponse, String serviceType, String inputHash) {
+        MLAnalysisResult result = MLAnalysisResult.builder()
+                .serviceType(serviceType)
+                .inputHash(inputHash)
+                .build();
+
+        if (jsonResponse.has("status")) {
+            result.setStatus(jsonResponse.get("status").asText());
+        }
+        if (jsonResponse.has("judgement")) {
+            result.setStatus(jsonResponse.get("judgement").asText());
+        }
+        if (jsonResponse.has("prediction")) {
+            result.setPrediction(jsonResponse.get("prediction").asInt());
+        }
+        if (jsonResponse.has("confidence")) {
+            result.setConfidence(jsonResponse.get("confidence").asDouble());
+        }
+        if (jsonResponse.has("reconstruction_error")) {
+            result.setReconstructionError(jsonResponse.get("reconstruction_error").asDouble());
+        }
+        if (jsonResponse.has("threshold")) {
+            result.setThreshold(jsonResponse.get("threshold").asDouble());
+        }
+        if (jsonResponse.has("is_anomaly")) {
+            result.setIsAnomaly(jsonResponse.get("is_anomaly").asInt());
+        }
+        if (jsonResponse.has("original_image_url")) {
+            result.setOriginalImageUrl(jsonResponse.get("original_image_url").asText());
+        }
+        if (jsonResponse.has("result_image_url")) {
+            result.setResultImageUrl(jsonResponse.get("result_image_url").asText());
+        }
+        if (jsonResponse.has("message")) {
+            result.setMessage(jsonResponse.get("message").asText());
+        }
+
+        result.setStatus(resolveStatus(result.getStatus(), result));
+
+        // 전체 JSON을 additionalInfo에 저장
+        result.setAdditionalInfo(jsonResponse.toString());
+        return result;
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  상태 필드가 없는 응답(프레스 진동/이미지 등)은 is_anomaly 로 보정 (status 는 NOT NULL 컬럼)
+     */
+    private static String resolveStatus(String status, MLAnalysisResult result) {
+        if (status != null) {
+            return status;
+        }
+        if (result.getIsAnomaly() != null) {
+            return result.getIsAnomaly() == 1 ? "ABNORMAL" : "NORMAL";
+        }
+        return "UNKNOWN";
+    }
+
+    /**
+     *  차체 조립 배치 응답의 부품별 pass_fail 종합 (하나라도 FAIL 이면 FAIL)
+     *  {"results": {"door": {"pass_fail": "PASS", "detections": [...]}, ...}}
+     */
+    private static String readPartJudgement(JsonParser parser) throws IOException {
+        String judgement = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isStructStart()) {
+                    parser.skipChildren();
+                } else if ("pass_fail".equals(field) && !"FAIL".equals(judgement)) {
+                    judgement = parser.getValueAsString();
+                }
+            }
+        }
+        return judgement;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.MLResultPageResponse;
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ *  ML 분석 결과 이력 조회 (keyset 페이지네이션)
+ *  cursor = 직전 페이지 마지막 행의 (createdDate, id) 를 인코딩한 값 → OFFSET 없이 인덱스 범위 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MLResultQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+
+    public MLResultPageResponse getHistory(String serviceType, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<MLAnalysisResult> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = mlAnalysisResultRepository.findByServiceTypeOrderByCreatedDateDescIdDesc(serviceType, limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = mlAnalysisResultRepository.findPageAfter(serviceType, position.at(), position.id(), limit);
+        }
+
+        rows.forEach(MLResultQueryService::fillThumbnailUrl);
+        if (rows.size() <= pageSize) {
+            return new MLResultPageResponse(rows, null);
+        }
+        List<MLAnalysisResult> page = rows.subList(0, pageSize);
+        MLAnalysisResult last = page.get(pageSize - 1);
+        return new MLResultPageResponse(page, new KeysetCursor(last.getCreatedDate(), last.getId()).encode());
+    }
+
+    /**
+     *  로컬 이미지 저장소 이미지면 썸네일 URL (결과 이미지 우선)
+     */
+    private static void fillThumbnailUrl(MLAnalysisResult result) {
+        String image = result.getResultImageUrl() != null ? result.getResultImageUrl() : result.getOriginalImageUrl();
+        result.setThumbnailUrl(ImageStore.thumbnailUrlOf(image));
+    }
+}
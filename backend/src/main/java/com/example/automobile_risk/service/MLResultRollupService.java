@@ -0,0 +1,179 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.MLResultStatsResponse;
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.entity.MLResultHourlyStat;
+import com.example.automobile_risk.repository.MLResultHourlyStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ *  ML 분석 결과 시간별 집계
+ *  - 결과가 저장될 때(MLResultWriter 의 같은 트랜잭션) 해당 (serviceType, 시간) 행에 증분 반영
+ *  - 통계 조회는 집계 행만 읽는다 (원본 테이블 스캔 없음)
+ *  - 백분위: confidence 는 [0,1] 20구간 (0~100 스케일은 환산), reconstruction error 는 1e-4 부터 2배씩 늘어나는 구간 히스토그램
+ */
+@Service
+@RequiredArgsConstructor
+public class MLResultRollupService {
+
+    private static final int CONFIDENCE_BUCKETS = 20;
+    private static final double RECONSTRUCTION_ERROR_BASE = 1e-4;
+    private static final int RECONSTRUCTION_ERROR_BUCKETS = 24;     // 마지막 구간은 초과분
+
+    private final MLResultHourlyStatRepository hourlyStatRepository;
+
+    private record HourKey(String serviceType, LocalDateTime hourStart) {}
+
+    /**
+     *  저장된 결과들을 시간별 집계에 반영 (호출자 트랜잭션 안에서 실행)
+     */
+    public void apply(Collection<MLAnalysisResult> results) {
+        Map<HourKey, MLResultHourlyStat> touched = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (MLAnalysisResult result : results) {
+            LocalDateTime at = result.getCreatedDate() != null ? result.getCreatedDate() : now;
+            HourKey key = new HourKey(result.getServiceType(), at.truncatedTo(ChronoUnit.HOURS));
+            MLResultHourlyStat stat = touched.computeIfAbsent(key, k -> hourlyStatRepository
+                    .findByServiceTypeAndHourStart(k.serviceType(), k.hourStart())
+                    .orElseGet(() -> MLResultHourlyStat.builder()
+                            .serviceType(k.serviceType())
+                            .hourStart(k.hourStart())
+                            .confidenceBuckets(new int[CONFIDENCE_BUCKETS])
+                            .reconstructionErrorBuckets(new int[RECONSTRUCTION_ERROR_BUCKETS])
+                            .build()));
+
+            stat.setCount(stat.getCount() + 1);
+            if (result.isAnomalous()) {
+                stat.setAnomalyCount(stat.getAnomalyCount() + 1);
+            }
+            if (result.getConfidence() != null) {
+                stat.getConfidenceBuckets()[confidenceBucket(result.getConfidence())]++;
+            }
+            if (result.getReconstructionError() != null) {
+                stat.getReconstructionErrorBuckets()[reconstructionErrorBucket(result.getReconstructionError())]++;
+            }
+            stat.setUpdatedAt(now);
+        }
+
+        hourlyStatRepository.saveAll(touched.values());
+    }
+
+    /**
+     *  서비스 타입별 시간별 통계 + 구간 전체 통계
+     */
+    @Transactional(readOnly = true)
+    public MLResultStatsResponse getStats(String serviceType, LocalDateTime from, LocalDateTime to) {
+        List<MLResultHourlyStat> rows = hourlyStatRepository.findByServiceTypeAndHourStartBetweenOrderByHourStartAsc(
+                serviceType, from.truncatedTo(ChronoUnit.HOURS), to);
+
+        long totalCount = 0;
+        long totalAnomalies = 0;
+        int[] totalConfidence = new int[CONFIDENCE_BUCKETS];
+        int[] totalReconstructionError = new int[RECONSTRUCTION_ERROR_BUCKETS];
+        List<MLResultStatsResponse.Bucket> hourly = new ArrayList<>();
+
+        for (MLResultHourlyStat row : rows) {
+            hourly.add(toBucket(row.getHourStart(), row.getCount(), row.getAnomalyCount(),
+                    row.getConfidenceBuckets(), row.getReconstructionErrorBuckets()));
+
+            totalCount += row.getCount();
+            totalAnomalies += row.getAnomalyCount();
+            addInto(totalConfidence, row.getConfidenceBuckets());
+            addInto(totalReconstructionError, row.getReconstructionErrorBuckets());
+        }
+
+        return MLResultStatsResponse.builder()
+                .serviceType(serviceType)
+                .total(toBucket(null, totalCount, totalAnomalies, totalConfidence, totalReconstructionError))
+                .hourly(hourly)
+                .build();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  confidence 구간 (도장 등 일부 서비스는 0~100 스케일로 보내므로 1 을 넘으면 백분율로 보고 [0,1] 로 환산,
+     *  MLProcessEventBridge.severityOf 와 같은 규칙)
+     */
+    static int confidenceBucket(double confidence) {
+        double normalized = confidence > 1.0 ? confidence / 100.0 : confidence;
+        int index = (int) (normalized * CONFIDENCE_BUCKETS);
+        return Math.max(0, Math.min(CONFIDENCE_BUCKETS - 1, index));
+    }
+
+    /**
+     *  0 구간은 base 이하, i 구간은 (base·2^(i-1), base·2^i], 마지막 구간은 그 이상 전부
+     */
+    static int reconstructionErrorBucket(double error) {
+        if (error <= RECONSTRUCTION_ERROR_BASE) {
+            return 0;
+        }
+        int index = (int) Math.ceil(Math.log(error / RECONSTRUCTION_ERROR_BASE) / Math.log(2));
+        return Math.min(RECONSTRUCTION_ERROR_BUCKETS - 1, index);
+    }
+
+    private static MLResultStatsResponse.Bucket toBucket(LocalDateTime hourStart, long count, long anomalies,
+                                                         int[] confidence, int[] reconstructionError) {
+        return MLResultStatsResponse.Bucket.builder()
+                .hourStart(hourStart)
+                .count(count)
+                .anomalyCount(anomalies)
+                .anomalyRate(count > 0 ? (double) anomalies / count : null)
+                .confidenceP50(percentile(confidence, 0.50, i -> (i + 1.0) / CONFIDENCE_BUCKETS))
+                .confidenceP90(percentile(confidence, 0.90, i -> (i + 1.0) / CONFIDENCE_BUCKETS))
+                .confidenceP99(percentile(confidence, 0.99, i -> (i + 1.0) / CONFIDENCE_BUCKETS))
+                .reconstructionErrorP50(percentile(reconstructionError, 0.50, MLResultRollupService::reconstructionErrorUpperBound))
+                .reconstructionErrorP90(percentile(reconstructionError, 0.90, MLResultRollupService::reconstructionErrorUpperBound))
+                .reconstructionErrorP99(percentile(reconstructionError, 0.99, MLResultRollupService::reconstructionErrorUpperBound))
+                .build();
+    }
+
+    private static double reconstructionErrorUpperBound(int index) {
+        return RECONSTRUCTION_ERROR_BASE * Math.pow(2, index);
+    }
+
+    /**
+     *  누적 건수가 전체의 p 이상이 되는 구간의 상한값 (데이터 없으면 null)
+     */
+    static Double percentile(int[] buckets, double p, IntToDoubleFunction upperBound) {
+        if (buckets == null) {
+            return null;
+        }
+        long total = 0;
+        for (int count : buckets) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        long target = (long) Math.ceil(p * total);
+        long cumulative = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= target) {
+                return upperBound.applyAsDouble(i);
+            }
+        }
+        return upperBound.applyAsDouble(buckets.length - 1);
+    }
+
+    private static void addInto(int[] target, int[] source) {
+        if (source == null) {
+            return;
+        }
+        for (int i = 0; i < Math.min(target.length, source.length); i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.example.automobile_risk.service.event.MLResultsSavedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  ML 분석 결과 write-behind 저장
+ *  - 요청 스레드는 큐에 넣기만 하고, 백그라운드 writer 가 모아서 한 트랜잭션(JDBC batch)으로 저장
+ *  - id 는 시퀀스(allocationSize 50)로 미리 할당되므로 insert 가 batch 로 묶인다
+ *  - 큐가 가득 차면 호출 스레드에서 직접 저장 (결과 유실 없음)
+ *  - 같은 트랜잭션에서 시간별 집계(MLResultRollupService)도 갱신, 저장은 한 번에 한 batch 씩 (집계 행 경합 방지)
+ *  - 커밋된 batch 마다 MLResultsSavedEvent 발행 (공정 이벤트 연계 등 후속 단계)
+ *  - 종료 시 남은 큐를 모두 저장한 뒤 멈춘다
+ */
+@Slf4j
+@Component
+public class MLResultWriter {
+
+    private final MLAnalysisResultRepository mlAnalysisResultRepository;
+    private final MLResultRollupService mlResultRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final BlockingQueue<MLAnalysisResult> queue;
+    private final Thread writer = new Thread(this::drainLoop, "ml-result-writer");
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter failed;
+    private final Counter overflow;
+    private final Timer flushTimer;
+
+    public MLResultWriter(MLAnalysisResultRepository mlAnalysisResultRepository,
+                          MLResultRollupService mlResultRollupService,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${ml-result-writer.queue-capacity:10000}") int queueCapacity,
+                          @Value("${ml-result-writer.batch-size:50}") int batchSize,
+                          @Value("${ml-result-writer.flush-interval-ms:200}") long flushIntervalMillis,
+                          @Value("${ml-result-writer.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.mlAnalysisResultRepository = mlAnalysisResultRepository;
+        this.mlResultRollupService = mlResultRollupService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("ml.result-writer.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 분석 결과 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("ml.result-writer.written")
+                .description("저장된 분석 결과 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("ml.result-writer.failed")
+                .description("저장 실패한 분석 결과 수")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("ml.result-writer.overflow")
+                .description("큐 포화로 호출 스레드에서 직접 저장한 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("ml.result-writer.flush")
+                .description("batch 저장 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     *  저장 요청 (즉시 반환)
+     */
+    public void enqueue(MLAnalysisResult result) {
+        if (running && queue.offer(result)) {
+            return;
+        }
+        overflow.increment();
+        flush(List.of(result));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(shutdownTimeoutMillis);
+        if (!queue.isEmpty()) {
+            log.warn("ML result writer stopped with {} results not persisted", queue.size());
+        }
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private void drainLoop() {
+        List<MLAnalysisResult> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MLAnalysisResult first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     *  한 트랜잭션으로 저장, 실패 시 한 건씩 재시도해 나머지는 살린다
+     */
+    private synchronized void flush(List<MLAnalysisResult> batch) {
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                mlAnalysisResultRepository.saveAll(batch);
+                mlResultRollupService.apply(batch);
+            }));
+            written.increment(batch.size());
+            eventPublisher.publishEvent(new MLResultsSavedEvent(List.copyOf(batch)));
+        } catch (Exception e) {
+            log.warn("Batch save of {} ML results failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (MLAnalysisResult result : batch) {
+                saveOne(result);
+            }
+        }
+    }
+
+    private void saveOne(MLAnalysisResult result) {
+        // 실패한 batch 에서 시퀀스 id 가 이미 할당됨 (롤백해도 남는다)
+        // → 그대로 save 하면 merge 경로(행 없음 → OptimisticLockException), id 를 비워 새로 persist
+        //   (createdDate 는 persist 시 auditing 이 다시 채운다)
+        result.setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                mlAnalysisResultRepository.save(result);
+                mlResultRollupService.apply(List.of(result));
+            });
+            written.increment();
+            eventPublisher.publishEvent(new MLResultsSavedEvent(List.of(result)));
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Error saving ML analysis result for {}: {}", result.getServiceType(), e.getMessage(), e);
+        }
+    }
+}
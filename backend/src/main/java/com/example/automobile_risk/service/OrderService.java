@@ -12,13 +12,17 @@ import com.example.automobile_risk.repository.OrderRepository;
 import com.example.automobile_risk.repository.VehicleModelRepository;
 import com.example.automobile_risk.service.dto.OrderDetailResponse;
 import com.example.automobile_risk.service.dto.OrderListResponse;
+import com.example.automobile_risk.service.dto.OrderPageResponse;
+import com.example.automobile_risk.service.event.DashboardChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Transactional(readOnly = true)
@@ -26,9 +30,12 @@ import java.util.stream.Collectors;
 @Service
 public class OrderService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final VehicleModelRepository vehicleModelRepository;
     private final OrderProductionRepository orderProductionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      *  1. 주문 생성
@@ -48,6 +55,7 @@ public class OrderService {
         );
 
         Order savedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new DashboardChangedEvent("order-created"));
 
         return savedOrder.getId();
     }
@@ -67,6 +75,7 @@ public class OrderService {
                 orderUpdateForm.getDueDate(),
                 orderUpdateForm.getOrderQty()
         );
+        eventPublisher.publishEvent(new DashboardChangedEvent("order-updated"));
 
         return order.getId();
     }
@@ -81,6 +90,7 @@ public class OrderService {
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         order.cancel();
+        eventPublisher.publishEvent(new DashboardChangedEvent("order-cancelled"));
 
         return order.getId();
     }
@@ -96,6 +106,7 @@ public class OrderService {
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         order.complete();
+        eventPublisher.publishEvent(new DashboardChangedEvent("order-completed"));
 
         return order.getId();
     }
@@ -115,11 +126,35 @@ public class OrderService {
      */
     public List<OrderListResponse> getOrderList() {
 
-        List<Order> orderList = orderRepository.findAll();
+        return orderRepository.findListRows();
+    }
 
-        return orderList.stream()
-                .map(OrderListResponse::from)
-                .collect(Collectors.toList());
+    /**
+     *  7. 주문 목록 페이지 조회 (납기 빠른 순, keyset)
+     *  cursor = 직전 페이지 마지막 행의 (dueDate, id), status/dueFrom/dueTo 는 null 이면 전체
+     */
+    public OrderPageResponse getOrderPage(OrderStatus status,
+                                          LocalDateTime dueFrom,
+                                          LocalDateTime dueTo,
+                                          String cursor,
+                                          int size) {
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<OrderListResponse> rows = orderRepository.findListPage(
+                status, dueFrom, dueTo,
+                position != null ? position.at() : null,
+                position != null ? position.id() : null,
+                PageRequest.of(0, pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new OrderPageResponse(rows, null);
+        }
+        List<OrderListResponse> page = rows.subList(0, pageSize);
+        OrderListResponse last = page.get(pageSize - 1);
+        return new OrderPageResponse(page, new KeysetCursor(last.getDueDate(), last.getOrderId()).encode());
     }
 
     /**
@@ -148,6 +183,7 @@ public class OrderService {
         // 모든 생산이 완료된 경우만 완료 처리
         if (order.isAllProductionCompleted()) {
             order.complete();
+            eventPublisher.publishEvent(new DashboardChangedEvent("order-completed"));
         }
     }
 }
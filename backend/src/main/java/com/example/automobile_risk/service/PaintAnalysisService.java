@@ -1,46 +1,165 @@
 package com.example.automobile_risk.service;
 
+import com.example.automobile_risk.dto.PaintAnalysisPageResponse;
 import com.example.automobile_risk.dto.PaintAnalysisResponse;
+import com.example.automobile_risk.dto.PaintBatchSaveResponse;
 import com.example.automobile_risk.dto.PaintStatisticsResponse;
 import com.example.automobile_risk.entity.DetectedDefect;
 import com.example.automobile_risk.entity.PaintAnalysisResult;
 import com.example.automobile_risk.repository.DetectedDefectRepository;
 import com.example.automobile_risk.repository.PaintAnalysisResultRepository;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository.ResultKey;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaintAnalysisService {
     
+    private static final int RECENT_HISTORY_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+    
     private final PaintAnalysisResultRepository paintAnalysisResultRepository;
     private final DetectedDefectRepository detectedDefectRepository;
+    private final PaintStatisticsCounters paintStatisticsCounters;
+    private final PaintDailyStatisticsService paintDailyStatisticsService;
+    private final DefectHeatmapService defectHeatmapService;
+    private final PlatformTransactionManager transactionManager;
     
     /**
-     * 분석 결과 저장
+     * 분석 결과 저장 (같은 트랜잭션에서 일일 통계·결함 히트맵 증분, 커밋 후 오늘 통계 카운터 반영)
      */
     @Transactional
     public PaintAnalysisResult saveAnalysisResult(PaintAnalysisResult result) {
-        return paintAnalysisResultRepository.save(result);
+        PaintAnalysisResult saved = paintAnalysisResultRepository.save(result);
+        paintDailyStatisticsService.record(saved);
+        defectHeatmapService.apply(List.of(saved));
+        afterCommit(() -> paintStatisticsCounters.record(saved));
+        return saved;
+    }
+    
+    /**
+     * 분석 결과 일괄 저장 (한 트랜잭션, resultId 기준 멱등)
+     * 이미 저장된 resultId / 요청 내 중복은 건너뛰고 DUPLICATE 로 응답, 나머지는 JDBC batch insert
+     * 같은 resultId 를 동시에 저장한 요청과 겹쳐 unique 위반이 나면 새 트랜잭션에서 한 번 더 판정한다
+     * (위반은 상대 트랜잭션이 커밋된 뒤에 나므로 재판정에서 DUPLICATE 가 된다)
+     */
+    public PaintBatchSaveResponse saveAnalysisResults(List<PaintAnalysisResult> results) {
+        if (results.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 저장은 최대 " + MAX_BATCH_SIZE + "건입니다: " + results.size());
+        }
+        for (PaintAnalysisResult result : results) {
+            if (result.getResultId() == null || result.getResultId().isBlank()) {
+                throw new IllegalArgumentException("resultId 가 없는 분석 결과가 있습니다");
+            }
+        }
+        if (results.isEmpty()) {
+            return new PaintBatchSaveResponse(0, 0, List.of());
+        }
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> insertNew(results));
+        } catch (DataIntegrityViolationException e) {
+            log.info("Concurrent save of the same paint resultId, re-resolving batch of {}: {}", results.size(), e.getMessage());
+            // 실패한 시도에서 할당된 시퀀스 id 를 비워 새로 persist
+            for (PaintAnalysisResult result : results) {
+                result.setId(null);
+                if (result.getDetectedDefects() != null) {
+                    result.getDetectedDefects().forEach(defect -> defect.setId(null));
+                }
+            }
+            return transactionTemplate.execute(status -> insertNew(results));
+        }
     }
     
     /**
-     * 전체 분석 이력 조회 (최신순)
+     * 이미 있는 resultId 를 제외하고 저장 (트랜잭션 안에서 호출)
+     */
+    private PaintBatchSaveResponse insertNew(List<PaintAnalysisResult> results) {
+        Set<String> resultIds = results.stream().map(PaintAnalysisResult::getResultId).collect(Collectors.toSet());
+        Map<String, Long> existingIds = paintAnalysisResultRepository.findKeysByResultIdIn(resultIds).stream()
+                .collect(Collectors.toMap(ResultKey::getResultId, ResultKey::getId));
+        
+        Map<String, PaintAnalysisResult> toInsert = new LinkedHashMap<>();
+        for (PaintAnalysisResult result : results) {
+            if (existingIds.containsKey(result.getResultId())) {
+                continue;
+            }
+            if (toInsert.putIfAbsent(result.getResultId(), result) == null && result.getDetectedDefects() != null) {
+                // 결함은 result_id 로 연결되므로 부모 값으로 맞춘다
+                result.getDetectedDefects().forEach(defect -> defect.setResultId(result.getResultId()));
+            }
+        }
+        
+        List<PaintAnalysisResult> saved = paintAnalysisResultRepository.saveAll(toInsert.values());
+        paintDailyStatisticsService.recordAll(saved);
+        defectHeatmapService.apply(saved);
+        afterCommit(() -> saved.forEach(paintStatisticsCounters::record));
+        
+        Set<PaintAnalysisResult> created = Collections.newSetFromMap(new IdentityHashMap<>());
+        created.addAll(toInsert.values());
+        List<PaintBatchSaveResponse.Item> items = new ArrayList<>(results.size());
+        for (PaintAnalysisResult result : results) {
+            if (created.contains(result)) {
+                items.add(new PaintBatchSaveResponse.Item(result.getResultId(), result.getId(), "CREATED"));
+            } else {
+                Long id = existingIds.containsKey(result.getResultId())
+                        ? existingIds.get(result.getResultId())
+                        : toInsert.get(result.getResultId()).getId();
+                items.add(new PaintBatchSaveResponse.Item(result.getResultId(), id, "DUPLICATE"));
+            }
+        }
+        return new PaintBatchSaveResponse(saved.size(), results.size() - saved.size(), items);
+    }
+    
+    /**
+     * 전체 분석 이력 조회 (최신순 100건)
      */
     @Transactional(readOnly = true)
     public List<PaintAnalysisResponse> getAllAnalysisHistory() {
-        List<PaintAnalysisResult> results = paintAnalysisResultRepository.findTop100ByOrderByAnalyzedAtDesc();
-        return results.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<PaintAnalysisResult> results = paintAnalysisResultRepository.findLatest(PageRequest.of(0, RECENT_HISTORY_SIZE));
+        return convertWithDefects(results);
+    }
+    
+    /**
+     * 분석 이력 페이지 조회 (최신순, keyset)
+     * cursor = 직전 페이지 마지막 행의 (analyzedAt, id), 결함은 페이지 단위로 한 번에 조회
+     */
+    @Transactional(readOnly = true)
+    public PaintAnalysisPageResponse getAnalysisHistoryPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        
+        List<PaintAnalysisResult> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = paintAnalysisResultRepository.findLatest(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = paintAnalysisResultRepository.findPageAfter(position.at(), position.id(), limit);
+        }
+        
+        if (rows.size() <= pageSize) {
+            return new PaintAnalysisPageResponse(convertWithDefects(rows), null);
+        }
+        List<PaintAnalysisResult> page = rows.subList(0, pageSize);
+        PaintAnalysisResult last = page.get(pageSize - 1);
+        return new PaintAnalysisPageResponse(convertWithDefects(page),
+                new KeysetCursor(last.getAnalyzedAt(), last.getId()).encode());
     }
     
     /**
@@ -49,50 +168,53 @@ public class PaintAnalysisService {
     @Transactional(readOnly = true)
     public Optional<PaintAnalysisResponse> getAnalysisDetail(String resultId) {
         return paintAnalysisResultRepository.findByResultId(resultId)
-                .map(this::convertToResponse);
+                .map(result -> convertToResponse(result, result.getDetectedDefects()));
     }
     
     /**
-     * 오늘의 통계 조회
+     * 오늘의 통계 조회 (메모리 카운터, 자정에 초기화)
      */
-    @Transactional(readOnly = true)
     public PaintStatisticsResponse getTodayStatistics() {
-        LocalDateTime startOfDay = LocalDateTime.of(LocalDate.now(), LocalTime.MIN);
-        
-        Long totalInspections = paintAnalysisResultRepository.countByAnalyzedAtAfter(startOfDay);
-        Long passedInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("PASS", startOfDay);
-        Long failedInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("FAIL", startOfDay);
-        Long warningInspections = paintAnalysisResultRepository.countByStatusAndAnalyzedAtAfter("WARNING", startOfDay);
-        Long defectCount = detectedDefectRepository.countByDetectedAtAfter(startOfDay);
-        Double avgConfidence = paintAnalysisResultRepository.getAverageConfidenceAfter(startOfDay);
-        
-        if (totalInspections == null) totalInspections = 0L;
-        if (passedInspections == null) passedInspections = 0L;
-        if (failedInspections == null) failedInspections = 0L;
-        if (warningInspections == null) warningInspections = 0L;
-        if (defectCount == null) defectCount = 0L;
-        if (avgConfidence == null) avgConfidence = 0.0;
-        
-        double defectRate = totalInspections > 0 ? (failedInspections * 100.0 / totalInspections) : 0.0;
-        double passRate = totalInspections > 0 ? (passedInspections * 100.0 / totalInspections) : 0.0;
+        return paintStatisticsCounters.today();
+    }
+    
+    /**
+     * 트랜잭션 커밋 후 실행 (트랜잭션 밖이면 즉시)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * 여러 결과를 변환 (결함은 IN 조회 한 번으로 묶어서 로딩)
+     */
+    private List<PaintAnalysisResponse> convertWithDefects(List<PaintAnalysisResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        List<String> resultIds = results.stream().map(PaintAnalysisResult::getResultId).toList();
+        Map<String, List<DetectedDefect>> defectsByResult = detectedDefectRepository.findByResultIdIn(resultIds).stream()
+                .collect(Collectors.groupingBy(DetectedDefect::getResultId));
         
-        return new PaintStatisticsResponse(
-                totalInspections,
-                passedInspections,
-                failedInspections,
-                warningInspections,
-                defectCount,
-                defectRate,
-                passRate,
-                avgConfidence
-        );
+        return results.stream()
+                .map(result -> convertToResponse(result, defectsByResult.getOrDefault(result.getResultId(), List.of())))
+                .collect(Collectors.toList());
     }
     
     /**
      * Entity를 Response DTO로 변환
      */
-    private PaintAnalysisResponse convertToResponse(PaintAnalysisResult result) {
-        List<PaintAnalysisResponse.DefectDetail> defectDetails = result.getDetectedDefects().stream()
+    private PaintAnalysisResponse convertToResponse(PaintAnalysisResult result, List<DetectedDefect> defects) {
+        List<PaintAnalysisResponse.DefectDetail> defectDetails = defects.stream()
                 .map(defect -> new PaintAnalysisResponse.DefectDetail(
                         defect.getDefectClass(),
                         defect.getDefectNameKo(),
@@ -107,6 +229,7 @@ public class PaintAnalysisService {
                 result.getImageFilename(),
                 result.getImageUrl(),
                 result.getResultImageUrl(),
+                ImageStore.thumbnailUrlOf(result.getResultImageUrl() != null ? result.getResultImageUrl() : result.getImageUrl()),
                 result.getStatus(),
                 result.getPrimaryDefectType(),
                 result.getConfidence(),
@@ -0,0 +1,250 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.PaintDailyStatisticResponse;
+import com.example.automobile_risk.entity.DetectedDefect;
+import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.entity.PaintDailyStatistic;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository.FacilityDefectCount;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository.FacilityTotals;
+import com.example.automobile_risk.repository.PaintDailyStatisticRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ *  도장 검사 일일 통계 (daily_statistics)
+ *  - 분석 결과 저장 시 같은 트랜잭션에서 (일자, 시설) 행에 upsert 증분 → 추세 조회는 일자×시설 행만 읽는다
+ *  - backfill: 기간을 일자 단위로 원본(결과/결함)에서 다시 집계해 덮어쓴다 (일자별 트랜잭션)
+ *    오늘은 저장 시 증분과 겹치므로(삭제 후 다시 쓰는 사이 증분 유실) 전날까지만 재계산한다
+ *  - 기동 시 전날까지 최근 backfill-days 일, 매일 자정 이후 전날을 재계산해 증분 누락을 보정
+ */
+@Slf4j
+@Service
+public class PaintDailyStatisticsService {
+
+    private static final String UNASSIGNED_FACILITY = "UNASSIGNED";
+
+    private final PaintDailyStatisticRepository paintDailyStatisticRepository;
+    private final PaintAnalysisResultRepository paintAnalysisResultRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+    private final int backfillDays;
+    private final int backfillMaxDays;
+
+    public PaintDailyStatisticsService(PaintDailyStatisticRepository paintDailyStatisticRepository,
+                                       PaintAnalysisResultRepository paintAnalysisResultRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${paint-daily-stats.backfill-on-startup:true}") boolean backfillOnStartup,
+                                       @Value("${paint-daily-stats.backfill-days:30}") int backfillDays,
+                                       @Value("${paint-daily-stats.backfill-max-days:92}") int backfillMaxDays) {
+        this.paintDailyStatisticRepository = paintDailyStatisticRepository;
+        this.paintAnalysisResultRepository = paintAnalysisResultRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+        this.backfillDays = backfillDays;
+        this.backfillMaxDays = backfillMaxDays;
+    }
+
+    /**
+     *  저장된 분석 결과 1건을 일일 통계에 더한다 (호출자 트랜잭션 안에서 실행)
+     */
+    public void record(PaintAnalysisResult result) {
+        recordAll(List.of(result));
+    }
+
+    /**
+     *  저장된 분석 결과 여러 건을 (일자, 시설) 별로 합쳐 행마다 upsert 한 번씩 (호출자 트랜잭션 안에서 실행)
+     */
+    public void recordAll(Collection<PaintAnalysisResult> results) {
+        Map<String, PaintDailyStatistic> deltas = new LinkedHashMap<>();
+        for (PaintAnalysisResult result : results) {
+            if (result.getAnalyzedAt() == null) {
+                continue;
+            }
+            LocalDate date = result.getAnalyzedAt().toLocalDate();
+            String facility = facilityOf(result.getLocationCode());
+            addResult(deltas.computeIfAbsent(date + "|" + facility, k -> empty(date, facility)), result);
+        }
+        deltas.values().forEach(paintDailyStatisticRepository::upsertIncrement);
+    }
+
+    /**
+     *  기간 일일 통계 (facility 가 없으면 전체 시설)
+     */
+    @Transactional(readOnly = true)
+    public List<PaintDailyStatisticResponse> getDailyStatistics(LocalDate from, LocalDate to, String facility) {
+        List<PaintDailyStatistic> rows = facility == null || facility.isBlank()
+                ? paintDailyStatisticRepository.findByStatDateBetweenOrderByStatDateAscFacilityNameAsc(from, to)
+                : paintDailyStatisticRepository.findByFacilityNameAndStatDateBetweenOrderByStatDateAsc(facility, from, to);
+        return rows.stream().map(PaintDailyStatisticsService::toResponse).toList();
+    }
+
+    /**
+     *  기간 재계산 (from ~ to, 양 끝 포함, to 는 전날로 제한), 처리한 일수 반환
+     *  기간이 backfill-max-days 를 넘거나 from 이 제한된 to 보다 늦으면 IllegalArgumentException
+     */
+    public int backfill(LocalDate from, LocalDate to) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate end = to.isAfter(yesterday) ? yesterday : to;
+        if (from.isAfter(end)) {
+            throw new IllegalArgumentException("재계산은 전날까지만 가능합니다: " + from + " > " + end);
+        }
+        long days = ChronoUnit.DAYS.between(from, end) + 1;
+        if (days > backfillMaxDays) {
+            throw new IllegalArgumentException("재계산 기간은 최대 " + backfillMaxDays + "일입니다: " + days);
+        }
+        return rebuildRange(from, end);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRecent() {
+        if (!backfillOnStartup || backfillDays <= 0) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuildRange(yesterday.minusDays(backfillDays - 1L), yesterday);
+    }
+
+    /**
+     *  전날 통계를 원본 기준으로 다시 맞춘다
+     */
+    @Scheduled(cron = "${paint-daily-stats.reconcile-cron:0 10 0 * * *}")
+    public void reconcileYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        rebuildRange(yesterday, yesterday);
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private int rebuildRange(LocalDate from, LocalDate to) {
+        int days = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDate target = date;
+            transactionTemplate.executeWithoutResult(status -> rebuild(target));
+            days++;
+        }
+        log.info("Paint daily statistics rebuilt for {} ~ {} ({} days)", from, to, days);
+        return days;
+    }
+
+    private void rebuild(LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+        Map<String, PaintDailyStatistic> byFacility = new LinkedHashMap<>();
+        for (FacilityTotals totals : paintAnalysisResultRepository.aggregateByFacility(start, end)) {
+            PaintDailyStatistic stat = byFacility.computeIfAbsent(facilityOf(totals.getFacility()), f -> empty(date, f));
+            stat.setTotalInspections(stat.getTotalInspections() + orZero(totals.getTotal()));
+            stat.setPassedInspections(stat.getPassedInspections() + orZero(totals.getPassed()));
+            stat.setFailedInspections(stat.getFailedInspections() + orZero(totals.getFailed()));
+            stat.setWarningInspections(stat.getWarningInspections() + orZero(totals.getWarning()));
+            stat.setConfidenceCount(stat.getConfidenceCount() + orZero(totals.getConfidenceCount()));
+            stat.setConfidenceSum(stat.getConfidenceSum() + (totals.getConfidenceSum() != null ? totals.getConfidenceSum() : 0.0));
+            stat.setMinConfidence(min(stat.getMinConfidence(), totals.getMinConfidence()));
+            stat.setMaxConfidence(max(stat.getMaxConfidence(), totals.getMaxConfidence()));
+        }
+        for (FacilityDefectCount count : paintAnalysisResultRepository.countDefectsByFacility(start, end)) {
+            PaintDailyStatistic stat = byFacility.computeIfAbsent(facilityOf(count.getFacility()), f -> empty(date, f));
+            addDefects(stat, count.getDefectClass(), orZero(count.getCount()));
+        }
+
+        paintDailyStatisticRepository.deleteByStatDate(date);
+        paintDailyStatisticRepository.saveAll(byFacility.values());
+    }
+
+    private static PaintDailyStatistic empty(LocalDate date, String facility) {
+        return PaintDailyStatistic.builder()
+                .statDate(date)
+                .facilityName(facilityOf(facility))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static String facilityOf(String locationCode) {
+        return locationCode == null || locationCode.isBlank() ? UNASSIGNED_FACILITY : locationCode;
+    }
+
+    private static void addResult(PaintDailyStatistic delta, PaintAnalysisResult result) {
+        delta.setTotalInspections(delta.getTotalInspections() + 1);
+        switch (String.valueOf(result.getStatus())) {
+            case "PASS" -> delta.setPassedInspections(delta.getPassedInspections() + 1);
+            case "FAIL" -> delta.setFailedInspections(delta.getFailedInspections() + 1);
+            case "WARNING" -> delta.setWarningInspections(delta.getWarningInspections() + 1);
+            default -> {
+            }
+        }
+        if (result.getConfidence() != null) {
+            delta.setConfidenceCount(delta.getConfidenceCount() + 1);
+            delta.setConfidenceSum(delta.getConfidenceSum() + result.getConfidence());
+            delta.setMinConfidence(min(delta.getMinConfidence(), result.getConfidence()));
+            delta.setMaxConfidence(max(delta.getMaxConfidence(), result.getConfidence()));
+        }
+        if (result.getDetectedDefects() != null) {
+            for (DetectedDefect defect : result.getDetectedDefects()) {
+                addDefects(delta, defect.getDefectClass(), 1);
+            }
+        }
+    }
+
+    private static void addDefects(PaintDailyStatistic stat, String defectClass, long count) {
+        stat.setDefectCount(stat.getDefectCount() + count);
+        switch (String.valueOf(defectClass)) {
+            case "orange_peel" -> stat.setDefectOrangePeel(stat.getDefectOrangePeel() + count);
+            case "runs_sags" -> stat.setDefectRunsSags(stat.getDefectRunsSags() + count);
+            case "solvent_pop" -> stat.setDefectSolventPop(stat.getDefectSolventPop() + count);
+            case "water_spotting" -> stat.setDefectWaterSpotting(stat.getDefectWaterSpotting() + count);
+            default -> stat.setDefectOther(stat.getDefectOther() + count);
+        }
+    }
+
+    private static PaintDailyStatisticResponse toResponse(PaintDailyStatistic stat) {
+        Map<String, Long> defectsByType = new LinkedHashMap<>();
+        defectsByType.put("orange_peel", stat.getDefectOrangePeel());
+        defectsByType.put("runs_sags", stat.getDefectRunsSags());
+        defectsByType.put("solvent_pop", stat.getDefectSolventPop());
+        defectsByType.put("water_spotting", stat.getDefectWaterSpotting());
+        defectsByType.put("other", stat.getDefectOther());
+
+        long total = stat.getTotalInspections();
+        return PaintDailyStatisticResponse.builder()
+                .statDate(stat.getStatDate())
+                .facilityName(stat.getFacilityName())
+                .totalInspections(total)
+                .passedInspections(stat.getPassedInspections())
+                .failedInspections(stat.getFailedInspections())
+                .warningInspections(stat.getWarningInspections())
+                .defectCount(stat.getDefectCount())
+                .defectRate(total > 0 ? stat.getFailedInspections() * 100.0 / total : 0.0)
+                .avgConfidence(stat.getConfidenceCount() > 0 ? stat.getConfidenceSum() / stat.getConfidenceCount() : null)
+                .minConfidence(stat.getMinConfidence())
+                .maxConfidence(stat.getMaxConfidence())
+                .defectsByType(defectsByType)
+                .build();
+    }
+
+    private static Double min(Double a, Double b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Double max(Double a, Double b) {
+        return a == null ? b : b == null ? a : Math.max(a, b);
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
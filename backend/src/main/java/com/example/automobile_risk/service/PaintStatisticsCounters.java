@@ -0,0 +1,159 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.dto.PaintStatisticsResponse;
+import com.example.automobile_risk.entity.PaintAnalysisResult;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository;
+import com.example.automobile_risk.repository.PaintAnalysisResultRepository.PaintTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ *  도장 검사 오늘 통계 (메모리 카운터)
+ *  - 조회는 불변 스냅샷 하나를 읽기만 한다 (락/DB 없음)
+ *  - 저장 커밋 후 record() 로 CAS 증분, 날짜가 바뀌면 0 부터 다시 센다
+ *  - 기동 시와 resync-interval-ms 마다 집계 쿼리 한 번으로 DB 와 맞춘다 (다른 인스턴스/직접 적재분 보정)
+ *    쿼리 전에 읽은 스냅샷과 CAS 로 교체 → 쿼리 도중 들어온 record() 증분을 덮어쓰지 않는다
+ *    (경합하면 몇 번 다시 읽고, 그래도 지면 현재 값을 두고 다음 resync 에 맞춘다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaintStatisticsCounters {
+
+    private static final int LOAD_ATTEMPTS = 3;
+
+    private final PaintAnalysisResultRepository paintAnalysisResultRepository;
+
+    private final AtomicReference<Day> current = new AtomicReference<>();
+
+    /**
+     *  하루치 누적값 (불변)
+     */
+    private record Day(LocalDate date, long total, long passed, long failed, long warning,
+                       long defects, long confidenceCount, double confidenceSum) {
+
+        static Day empty(LocalDate date) {
+            return new Day(date, 0, 0, 0, 0, 0, 0, 0.0);
+        }
+
+        Day plus(PaintAnalysisResult result) {
+            String status = result.getStatus();
+            Double confidence = result.getConfidence();
+            return new Day(date,
+                    total + 1,
+                    passed + ("PASS".equals(status) ? 1 : 0),
+                    failed + ("FAIL".equals(status) ? 1 : 0),
+                    warning + ("WARNING".equals(status) ? 1 : 0),
+                    defects + (result.getDetectedDefects() != null ? result.getDetectedDefects().size() : 0),
+                    confidenceCount + (confidence != null ? 1 : 0),
+                    confidenceSum + (confidence != null ? confidence : 0.0));
+        }
+    }
+
+    /**
+     *  오늘 통계
+     */
+    public PaintStatisticsResponse today() {
+        LocalDate today = LocalDate.now();
+        Day day = current.get();
+        if (day == null) {
+            day = load();
+        }
+        if (!day.date().equals(today)) {
+            day = rollOver(today);
+        }
+
+        double defectRate = day.total() > 0 ? (day.failed() * 100.0 / day.total()) : 0.0;
+        double passRate = day.total() > 0 ? (day.passed() * 100.0 / day.total()) : 0.0;
+        double avgConfidence = day.confidenceCount() > 0 ? day.confidenceSum() / day.confidenceCount() : 0.0;
+
+        return new PaintStatisticsResponse(
+                day.total(),
+                day.passed(),
+                day.failed(),
+                day.warning(),
+                day.defects(),
+                defectRate,
+                passRate,
+                avgConfidence
+        );
+    }
+
+    /**
+     *  저장된 분석 결과 반영 (커밋 후 호출)
+     */
+    public void record(PaintAnalysisResult result) {
+        if (result.getAnalyzedAt() == null) {
+            return;
+        }
+        LocalDate date = result.getAnalyzedAt().toLocalDate();
+        current.updateAndGet(day -> {
+            if (day == null) {
+                return null;    // 아직 초기화 전: 첫 조회 시 DB 에서 읽는다
+            }
+            if (!day.date().equals(date)) {
+                // 지난 날짜 결과는 무시, 새 날짜면 그 날부터 다시 센다
+                return date.isAfter(day.date()) ? Day.empty(date).plus(result) : day;
+            }
+            return day.plus(result);
+        });
+    }
+
+    /**
+     *  DB 집계로 맞춘다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${paint-stats.resync-interval-ms:300000}",
+            initialDelayString = "${paint-stats.resync-interval-ms:300000}")
+    public void resync() {
+        Day day = load();
+        log.debug("Paint statistics resynced: {} inspections today", day.total());
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    private Day load() {
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            Day before = current.get();
+            Day loaded = query();
+            if (current.compareAndSet(before, loaded)) {
+                return loaded;
+            }
+        }
+        Day day = current.get();
+        return day != null ? day : query();
+    }
+
+    private Day query() {
+        LocalDate today = LocalDate.now();
+        PaintTotals totals = paintAnalysisResultRepository.aggregateAfter(today.atStartOfDay());
+
+        long confidenceCount = orZero(totals.getConfidenceCount());
+        double avgConfidence = totals.getAvgConfidence() != null ? totals.getAvgConfidence() : 0.0;
+        return new Day(today,
+                orZero(totals.getTotal()),
+                orZero(totals.getPassed()),
+                orZero(totals.getFailed()),
+                orZero(totals.getWarning()),
+                orZero(totals.getDefects()),
+                confidenceCount,
+                avgConfidence * confidenceCount);
+    }
+
+    private Day rollOver(LocalDate today) {
+        return current.updateAndGet(day -> day == null || day.date().isBefore(today) ? Day.empty(today) : day);
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.automobile_risk.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ *  갤러리용 썸네일 (긴 변 THUMBNAIL_SIZE px JPEG)
+ *  - 이미지가 저장소에 들어오면 requestAsync 로 백그라운드 생성 → 원본 옆 파일로 저장
+ *  - 조회는 메모리 LRU(총 바이트 상한) → 디스크 → (아직 없으면) 즉시 생성 순
+ *  - 생성 큐가 가득 차면 버린다 (첫 조회 때 생성됨)
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    public static final int THUMBNAIL_SIZE = 256;
+
+    private final ImageStore imageStore;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final long maxCacheBytes;
+
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedBytes;
+
+    private final Counter generated;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ThumbnailService(ImageStore imageStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${thumbnail.workers:2}") int workers,
+                            @Value("${thumbnail.queue-capacity:500}") int queueCapacity,
+                            @Value("${thumbnail.cache-max-bytes:33554432}") long maxCacheBytes) {
+        this.imageStore = imageStore;
+        this.maxCacheBytes = maxCacheBytes;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("thumbnail.queue", executor, e -> e.getQueue().size())
+                .description("생성 대기 중인 썸네일 수")
+                .register(meterRegistry);
+        Gauge.builder("thumbnail.cache.bytes", this, ThumbnailService::cachedBytes)
+                .description("메모리 LRU 에 올라간 썸네일 바이트 수")
+                .register(meterRegistry);
+        this.generated = Counter.builder("thumbnail.generated")
+                .description("생성한 썸네일 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("thumbnail.failed")
+                .description("원본을 읽지 못해 생성하지 못한 썸네일 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("thumbnail.dropped")
+                .description("큐 포화로 미리 생성하지 못한 썸네일 수")
+                .register(meterRegistry);
+        this.hits = Counter.builder("thumbnail.cache.hits")
+                .description("메모리 LRU 에서 바로 제공한 썸네일 요청 수")
+                .register(meterRegistry);
+        this.misses = Counter.builder("thumbnail.cache.misses")
+                .description("디스크/생성으로 제공한 썸네일 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     *  백그라운드 생성 요청 (이미 있거나 대기 중이면 무시, 즉시 반환)
+     */
+    public void requestAsync(String fileName) {
+        if (!pending.add(fileName)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    load(fileName);
+                } catch (Exception e) {
+                    log.warn("Thumbnail generation for {} failed: {}", fileName, e.getMessage());
+                } finally {
+                    pending.remove(fileName);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(fileName);
+            dropped.increment();
+        }
+    }
+
+    /**
+     *  썸네일 JPEG (원본이 없거나 읽을 수 없는 형식이면 empty)
+     */
+    public Optional<byte[]> get(String fileName) throws IOException {
+        byte[] cached = cached(fileName);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        Optional<byte[]> thumbnail = load(fileName);
+        thumbnail.ifPresent(bytes -> cache(fileName, bytes));
+        return thumbnail;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========================================
+    //  Private Methods
+    // ========================================
+
+    /**
+     *  디스크에 있으면 읽고, 없으면 원본에서 만들어 저장
+     */
+    private Optional<byte[]> load(String fileName) throws IOException {
+        Optional<Path> thumbnailPath = imageStore.thumbnailPathOf(fileName);
+        if (thumbnailPath.isEmpty()) {
+            return Optional.empty();
+        }
+        Path target = thumbnailPath.get();
+        if (Files.isRegularFile(target)) {
+            return Optional.of(Files.readAllBytes(target));
+        }
+
+        Optional<Path> original = imageStore.find(fileName);
+        if (original.isEmpty()) {
+            return Optional.empty();
+        }
+        BufferedImage source = ImageIO.read(original.get().toFile());
+        if (source == null) {
+            failed.increment();
+            return Optional.empty();
+        }
+
+        byte[] jpeg = encodeJpeg(resize(source));
+        imageStore.writeDerived(target, jpeg);
+        generated.increment();
+        return Optional.of(jpeg);
+    }
+
+    /**
+     *  긴 변이 THUMBNAIL_SIZE 가 될 때까지 절반씩 줄인다 (한 번에 줄이면 계단 현상이 심함)
+     */
+    private static BufferedImage resize(BufferedImage source) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) THUMBNAIL_SIZE / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);     // 투명 PNG 배경
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        if (!ImageIO.write(image, "jpg", out)) {
+            throw new IOException("JPEG writer not available");
+        }
+        return out.toByteArray();
+    }
+
+    private synchronized byte[] cached(String fileName) {
+        return cache.get(fileName);
+    }
+
+    /**
+     *  LRU 에 넣고 총 바이트가 상한을 넘으면 오래 안 쓴 것부터 뺀다
+     */
+    private synchronized void cache(String fileName, byte[] bytes) {
+        if (bytes.length > maxCacheBytes) {
+            return;
+        }
+        byte[] previous = cache.put(fileName, bytes);
+        cachedBytes += bytes.length - (previous != null ? previous.length : 0);
+        Iterator<Map.Entry<String, byte[]>> eldest = cache.entrySet().iterator();
+        while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+            Map.Entry<String, byte[]> entry = eldest.next();
+            cachedBytes -= entry.getValue().length;
+            eldest.remove();
+        }
+    }
+
+    private synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+}
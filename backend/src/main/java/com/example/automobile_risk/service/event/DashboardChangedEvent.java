@@ -0,0 +1,7 @@
+package com.example.automobile_risk.service.event;
+
+/**
+ *  대시보드 집계에 영향을 주는 변경 발생 (공정 이벤트 등록, 지연 예측 변경, 주문 생성/수정/취소/완료)
+ *  수신 시 대시보드 스냅샷을 비동기로 다시 계산한다.
+ */
+public record DashboardChangedEvent(String reason) {}
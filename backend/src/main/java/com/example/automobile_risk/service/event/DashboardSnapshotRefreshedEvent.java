@@ -0,0 +1,12 @@
+package com.example.automobile_risk.service.event;
+
+import com.example.automobile_risk.service.DashboardSnapshotService;
+
+/**
+ *  대시보드 스냅샷 갱신 완료 이벤트
+ *  previous 는 최초 갱신 시 null
+ */
+public record DashboardSnapshotRefreshedEvent(
+        DashboardSnapshotService.Snapshot previous,
+        DashboardSnapshotService.Snapshot current
+) {}
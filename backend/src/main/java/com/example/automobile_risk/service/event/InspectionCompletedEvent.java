@@ -0,0 +1,10 @@
+package com.example.automobile_risk.service.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+
+/**
+ *  서버 자동 검사 1건 완료 (AutoInspectionScheduler 가 발행)
+ */
+public record InspectionCompletedEvent(String station, long offset, JsonNode result, LocalDateTime completedAt) {}
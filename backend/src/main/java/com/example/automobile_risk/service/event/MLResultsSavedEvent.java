@@ -0,0 +1,10 @@
+package com.example.automobile_risk.service.event;
+
+import com.example.automobile_risk.entity.MLAnalysisResult;
+
+import java.util.List;
+
+/**
+ *  ML 분석 결과 batch 저장 완료 (MLResultWriter 가 커밋 후 발행)
+ */
+public record MLResultsSavedEvent(List<MLAnalysisResult> results) {}
@@ -0,0 +1,38 @@
+package com.example.automobile_risk.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardControllerTest {
+
+	@Test
+	void acceptsGzipWhenListedWithoutOrPositiveQuality() {
+		assertThat(DashboardController.acceptsGzip("gzip")).isTrue();
+		assertThat(DashboardController.acceptsGzip("gzip, deflate, br")).isTrue();
+		assertThat(DashboardController.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+		assertThat(DashboardController.acceptsGzip("x-gzip")).isTrue();
+	}
+
+	@Test
+	void rejectsGzipWithZeroQuality() {
+		assertThat(DashboardController.acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(DashboardController.acceptsGzip("gzip; q=0.000, deflate")).isFalse();
+		assertThat(DashboardController.acceptsGzip("gzip;q=0, *")).isFalse();
+	}
+
+	@Test
+	void wildcardAppliesOnlyWhenGzipIsNotListed() {
+		assertThat(DashboardController.acceptsGzip("*")).isTrue();
+		assertThat(DashboardController.acceptsGzip("*;q=0")).isFalse();
+		assertThat(DashboardController.acceptsGzip("gzip, *;q=0")).isTrue();
+	}
+
+	@Test
+	void missingOrUnrelatedHeaderIsNotGzip() {
+		assertThat(DashboardController.acceptsGzip(null)).isFalse();
+		assertThat(DashboardController.acceptsGzip("identity")).isFalse();
+		assertThat(DashboardController.acceptsGzip("deflate, br")).isFalse();
+		assertThat(DashboardController.acceptsGzip("gzip;q=abc")).isFalse();
+	}
+}
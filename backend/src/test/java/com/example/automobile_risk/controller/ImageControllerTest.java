@@ -0,0 +1,148 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.service.ImageStore;
+import com.example.automobile_risk.service.ThumbnailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageControllerTest {
+
+	@TempDir
+	Path root;
+
+	private ImageStore imageStore;
+	private ThumbnailService thumbnailService;
+	private ImageController controller;
+
+	private ImageStore.StoredImage image;
+	private String etag;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		imageStore = new ImageStore(root.toString(), 1_048_576, 1024, 10_485_760);
+		thumbnailService = new ThumbnailService(imageStore, new SimpleMeterRegistry(), 1, 10, 1_048_576);
+		controller = new ImageController(imageStore, thumbnailService);
+
+		image = imageStore.put(png(32, 32), "sample.png");
+		etag = "\"" + image.hash() + "\"";
+	}
+
+	@AfterEach
+	void tearDown() {
+		thumbnailService.shutdown();
+	}
+
+	// ========================================
+	//  parseRange
+	// ========================================
+
+	@Test
+	void parsesClosedRange() {
+		assertThat(ImageController.parseRange("bytes=10-19", 100)).containsExactly(10, 19);
+	}
+
+	@Test
+	void openEndedRangeRunsToEndOfFile() {
+		assertThat(ImageController.parseRange("bytes=90-", 100)).containsExactly(90, 99);
+	}
+
+	@Test
+	void endBeyondSizeIsClamped() {
+		assertThat(ImageController.parseRange("bytes=50-500", 100)).containsExactly(50, 99);
+	}
+
+	@Test
+	void suffixRangeTakesLastBytes() {
+		assertThat(ImageController.parseRange("bytes=-10", 100)).containsExactly(90, 99);
+		assertThat(ImageController.parseRange("bytes=-500", 100)).containsExactly(0, 99);
+	}
+
+	@Test
+	void unsatisfiableRangeIsEmpty() {
+		assertThat(ImageController.parseRange("bytes=100-", 100)).isEmpty();
+		assertThat(ImageController.parseRange("bytes=-0", 100)).isEmpty();
+		assertThat(ImageController.parseRange("bytes=-5", 0)).isEmpty();
+	}
+
+	@Test
+	void unparseableOrMultipleRangesFallBackToFullBody() {
+		assertThat(ImageController.parseRange("items=0-10", 100)).isNull();
+		assertThat(ImageController.parseRange("bytes=0-10,20-30", 100)).isNull();
+		assertThat(ImageController.parseRange("bytes=abc-", 100)).isNull();
+		assertThat(ImageController.parseRange("bytes=20-10", 100)).isNull();
+		assertThat(ImageController.parseRange("bytes=10", 100)).isNull();
+	}
+
+	// ========================================
+	//  If-Range
+	// ========================================
+
+	@Test
+	void ifRangeUsesStrongComparison() {
+		assertThat(ImageController.rangeApplies(null, etag)).isTrue();
+		assertThat(ImageController.rangeApplies(etag, etag)).isTrue();
+		assertThat(ImageController.rangeApplies("W/" + etag, etag)).isFalse();
+		assertThat(ImageController.rangeApplies("\"other\"", etag)).isFalse();
+		assertThat(ImageController.rangeApplies("Wed, 21 Oct 2015 07:28:00 GMT", etag)).isFalse();
+	}
+
+	@Test
+	void rangeWithMatchingIfRangeReturnsPartialContent() throws Exception {
+		MockHttpServletResponse response = serve("bytes=0-9", etag);
+
+		assertThat(response.getStatus()).isEqualTo(206);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 0-9/" + image.size());
+		assertThat(response.getContentAsByteArray()).hasSize(10);
+	}
+
+	@Test
+	void rangeWithStaleIfRangeReturnsFullBody() throws Exception {
+		MockHttpServletResponse response = serve("bytes=0-9", "\"stale\"");
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+		assertThat(response.getContentAsByteArray()).hasSize((int) image.size());
+	}
+
+	@Test
+	void unsatisfiableRangeReturns416() throws Exception {
+		MockHttpServletResponse response = serve("bytes=" + image.size() + "-", null);
+
+		assertThat(response.getStatus()).isEqualTo(416);
+		assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + image.size());
+	}
+
+	// ========================================
+	//  Helpers
+	// ========================================
+
+	private MockHttpServletResponse serve(String range, String ifRange) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/images/" + image.fileName());
+		request.addHeader(HttpHeaders.RANGE, range);
+		if (ifRange != null) {
+			request.addHeader(HttpHeaders.IF_RANGE, ifRange);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		controller.serve(image.fileName(), request, response);
+		return response;
+	}
+
+	static byte[] png(int width, int height) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,194 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.exception.ExceptionControllerAdvice;
+import com.example.automobile_risk.repository.MLAnalysisResultRepository;
+import com.example.automobile_risk.service.*;
+import com.example.automobile_risk.service.MLServiceStub.LatencyDistribution;
+import com.example.automobile_risk.service.MLServiceStub.Profile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.http.HttpClient;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ *  MLProxyController 부하 테스트 (실제 Python 모델 없이 MLServiceStub 사용)
+ *  컨트롤러 → MLProxyService → MLGatewayClient → stub 전체 경로를 동시 호출하고
+ *  처리량, 지연 p50/p99, 응답 코드 분포, 힙 사용량 최댓값을 출력한다.
+ *  DB 저장은 mock 리포지토리로 대체한다.
+ *  실행: ML_LOADTEST=true ./gradlew test --tests '*MLProxyLoadTest'
+ */
+@EnabledIfEnvironmentVariable(named = "ML_LOADTEST", matches = "true")
+class MLProxyLoadTest {
+
+	private static final int REQUESTS = 2000;
+	private static final int CONCURRENCY = 32;
+	private static final long GATEWAY_WAIT_MS = 5_000;
+
+	@Test
+	void windshieldUpload() throws Exception {
+		Profile profile = Profile.of(0)
+				.withLatency(LatencyDistribution.logNormal(30, 0.5))
+				.withPerItemLatency(2);
+		byte[] csv = new byte[8 * 1024];
+
+		try (MLServiceStub stub = new MLServiceStub(profile)) {
+			Report report = run("windshield (batching)", proxy(stub, true), i -> multipart("/api/v1/ml/windshield")
+					.file(new MockMultipartFile("file", "sample-" + i + ".csv", "text/csv", csv))
+					.param("side", i % 2 == 0 ? "left" : "right"));
+
+			report.print(stub);
+			assertThat(report.completed()).isEqualTo(REQUESTS);
+		}
+	}
+
+	@Test
+	void paintAutoWithFailuresAndLargePayload() throws Exception {
+		Profile profile = Profile.of(0)
+				.withLatency(LatencyDistribution.uniform(20, 80))
+				.withPayloadBytes(64 * 1024)
+				.withFailureRate(0.05);
+
+		try (MLServiceStub stub = new MLServiceStub(profile)) {
+			Report report = run("paint auto (5% failure, 64KB)", proxy(stub, false),
+					i -> post("/api/v1/ml/paint/auto").param("offset", String.valueOf(i)));
+
+			report.print(stub);
+			assertThat(report.completed()).isEqualTo(REQUESTS);
+		}
+	}
+
+	@Test
+	void pressVibrationLongTail() throws Exception {
+		Profile profile = Profile.of(0).withLatency(LatencyDistribution.logNormal(15, 1.2));
+
+		try (MLServiceStub stub = new MLServiceStub(profile)) {
+			Report report = run("press vibration (long tail)", proxy(stub, false),
+					i -> post("/api/v1/ml/press/vibration").param("offset", String.valueOf(i)));
+
+			report.print(stub);
+			assertThat(report.completed()).isEqualTo(REQUESTS);
+		}
+	}
+
+	// ========================================
+	//  Harness
+	// ========================================
+
+	/**
+	 *  stub 을 바라보는 프록시 스택 구성
+	 */
+	private MockMvc proxy(MLServiceStub stub, boolean batching) {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		ObjectMapper objectMapper = new ObjectMapper();
+		MLAnalysisResultRepository repository = mock(MLAnalysisResultRepository.class);
+
+		MLGatewayClient gateway = new MLGatewayClient(
+				HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+				registry, new MockEnvironment(), stub.baseUrl(), GATEWAY_WAIT_MS);
+		MLResultWriter writer = new MLResultWriter(
+				repository, mock(MLResultRollupService.class), event -> {}, mock(PlatformTransactionManager.class),
+				registry, 10_000, 50, 200, 1_000);
+		writer.start();
+		MLBatchCoalescer coalescer = new MLBatchCoalescer(gateway, objectMapper, registry, 16, 2, 20);
+		MLInferenceCache cache = new MLInferenceCache(repository, objectMapper, registry, false, 0, false);
+		// 동시 호출자들의 offset 순서가 섞이므로 선행 조회는 끈다
+		MLReadAheadCache readAhead = new MLReadAheadCache(objectMapper, registry, false, 0, 0, 0);
+
+		MLProxyService service = new MLProxyService(gateway, writer, objectMapper, coalescer, cache, readAhead,
+				new MLResultFieldExtractor(objectMapper));
+		ReflectionTestUtils.setField(service, "batchingEnabled", batching);
+
+		return MockMvcBuilders.standaloneSetup(new MLProxyController(service))
+				.setControllerAdvice(new ExceptionControllerAdvice())
+				.build();
+	}
+
+	private Report run(String name, MockMvc mvc, IntFunction<RequestBuilder> request) throws Exception {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		System.gc();
+		long heapBefore = memory.getHeapMemoryUsage().getUsed();
+		AtomicLong heapPeak = new AtomicLong(heapBefore);
+
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+		sampler.scheduleAtFixedRate(
+				() -> heapPeak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+				0, 10, TimeUnit.MILLISECONDS);
+
+		long[] latencies = new long[REQUESTS];
+		Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+		Semaphore permits = new Semaphore(CONCURRENCY);
+		List<Future<?>> futures = new ArrayList<>(REQUESTS);
+
+		long start = System.nanoTime();
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < REQUESTS; i++) {
+				int index = i;
+				permits.acquire();
+				futures.add(callers.submit(() -> {
+					try {
+						long begin = System.nanoTime();
+						int status;
+						try {
+							status = mvc.perform(request.apply(index)).andReturn().getResponse().getStatus();
+						} catch (ServletException e) {
+							// 처리되지 않은 예외 = 컨테이너에서는 500
+							status = 500;
+						}
+						latencies[index] = System.nanoTime() - begin;
+						statuses.merge(status, 1, Integer::sum);
+					} finally {
+						permits.release();
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sampler.shutdownNow();
+
+		Arrays.sort(latencies);
+		int completed = statuses.values().stream().mapToInt(Integer::intValue).sum();
+		return new Report(name, completed, REQUESTS / (elapsed / 1e9),
+				latencies[REQUESTS / 2], latencies[(int) (REQUESTS * 0.99) - 1], latencies[REQUESTS - 1],
+				new TreeMap<>(statuses), heapPeak.get() - heapBefore);
+	}
+
+	private record Report(String name, int completed, double throughput,
+						  long p50Nanos, long p99Nanos, long maxNanos,
+						  Map<Integer, Integer> statuses, long heapPeakDeltaBytes) {
+
+		void print(MLServiceStub stub) {
+			System.out.printf("%n[%s] %d requests, concurrency %d%n", name, completed, CONCURRENCY);
+			System.out.printf("  throughput : %.1f req/s%n", throughput);
+			System.out.printf("  latency    : p50 %.1fms, p99 %.1fms, max %.1fms%n",
+					p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6);
+			System.out.printf("  statuses   : %s%n", statuses);
+			System.out.printf("  upstream   : %d calls, %d failures%n", stub.requestCount(), stub.failureCount());
+			System.out.printf("  heap peak  : +%.1f MB%n", heapPeakDeltaBytes / (1024.0 * 1024.0));
+		}
+	}
+}
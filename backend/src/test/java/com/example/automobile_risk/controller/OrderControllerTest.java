@@ -0,0 +1,31 @@
+package com.example.automobile_risk.controller;
+
+import com.example.automobile_risk.exception.ExceptionControllerAdvice;
+import com.example.automobile_risk.repository.OrderProductionRepository;
+import com.example.automobile_risk.repository.OrderRepository;
+import com.example.automobile_risk.repository.VehicleModelRepository;
+import com.example.automobile_risk.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderControllerTest {
+
+	private final MockMvc mockMvc = MockMvcBuilders
+			.standaloneSetup(new OrderController(new OrderService(mock(OrderRepository.class),
+					mock(VehicleModelRepository.class), mock(OrderProductionRepository.class), event -> {})))
+			.setControllerAdvice(new ExceptionControllerAdvice())
+			.build();
+
+	@Test
+	void undecodableCursorIsBadRequest() throws Exception {
+		mockMvc.perform(get("/api/v1/order/page").param("cursor", "not-a-cursor"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.status").value("Invalid Cursor"));
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.automobile_risk.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+	@Test
+	void startsAtMaxLimitAndRejectsBeyondIt() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 2.0, 0.5);
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(limiter.tryAcquire(0)).isTrue();
+		}
+		assertThat(limiter.tryAcquire(0)).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(4);
+	}
+
+	@Test
+	void droppedCallsBackOffDownToMinLimit() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 2.0, 0.5);
+
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(2);
+
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(1);
+
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(1);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void latencyAboveBaselineToleranceBacksOff() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8, 2.0, 0.5);
+
+		limiter.tryAcquire(0);
+		limiter.onSuccess(FAST);
+		assertThat(limiter.getLimit()).isEqualTo(8);
+
+		limiter.tryAcquire(0);
+		limiter.onSuccess(SLOW);
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void saturatedFastCallsGrowLimitBackToMax() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 4, 2.0, 0.5);
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(1);
+
+		limiter.tryAcquire(0);
+		limiter.onSuccess(FAST);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+
+		for (int round = 0; round < 50; round++) {
+			int permits = limiter.getLimit();
+			for (int i = 0; i < permits; i++) {
+				assertThat(limiter.tryAcquire(0)).isTrue();
+			}
+			for (int i = 0; i < permits; i++) {
+				limiter.onSuccess(FAST);
+			}
+		}
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void unsaturatedCallsDoNotGrowLimit() throws InterruptedException {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8, 2.0, 0.5);
+		limiter.tryAcquire(0);
+		limiter.onDropped();
+		assertThat(limiter.getLimit()).isEqualTo(4);
+
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire(0);
+			limiter.onSuccess(FAST);
+		}
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void releaseWakesWaitingCaller() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 2.0, 0.5);
+		assertThat(limiter.tryAcquire(0)).isTrue();
+
+		CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+			try {
+				return limiter.tryAcquire(5_000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		});
+		Thread.sleep(100);
+		assertThat(waiter).isNotDone();
+
+		limiter.onSuccess(FAST);
+		assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(limiter.getInFlight()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.AutoInspectionScheduler.Station;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  스테이션 offset 발행/완료와 watermark 전진
+ */
+class AutoInspectionSchedulerTest {
+
+	@Test
+	void claimsSequentialOffsetsUpToMaxInFlight() {
+		Station station = new Station(MLEndpoint.PAINT, 10, 2);
+
+		assertThat(station.claim()).isEqualTo(10);
+		assertThat(station.claim()).isEqualTo(11);
+		assertThat(station.claim()).isNull();
+
+		station.complete(10, true);
+		assertThat(station.claim()).isEqualTo(12);
+	}
+
+	@Test
+	void watermarkAdvancesOnlyOverContiguousCompletions() {
+		Station station = new Station(MLEndpoint.PAINT, 0, 3);
+		station.claim();
+		station.claim();
+		station.claim();
+
+		station.complete(1, true);
+		station.complete(2, false);
+		assertThat(station.status().committedOffset()).isZero();
+		assertThat(station.takeUnsavedWatermark()).isEqualTo(-1);
+
+		station.complete(0, true);
+		assertThat(station.status().committedOffset()).isEqualTo(3);
+		assertThat(station.status().analyzed()).isEqualTo(2);
+		assertThat(station.status().failed()).isEqualTo(1);
+	}
+
+	@Test
+	void requeuedOffsetIsClaimedAgainBeforeNewOnesAndHoldsTheWatermark() {
+		Station station = new Station(MLEndpoint.PAINT, 0, 2);
+		station.claim();
+		station.claim();
+
+		station.requeue(0);
+		station.complete(1, true);
+		assertThat(station.status().committedOffset()).isZero();
+
+		assertThat(station.claim()).isEqualTo(0);
+		station.complete(0, true);
+		assertThat(station.status().committedOffset()).isEqualTo(2);
+		assertThat(station.claim()).isEqualTo(2);
+	}
+
+	@Test
+	void unsavedWatermarkIsTakenOncePerAdvance() {
+		Station station = new Station(MLEndpoint.PAINT, 5, 2);
+		assertThat(station.takeUnsavedWatermark()).isEqualTo(-1);
+
+		station.claim();
+		station.complete(5, true);
+
+		assertThat(station.takeUnsavedWatermark()).isEqualTo(6);
+		assertThat(station.takeUnsavedWatermark()).isEqualTo(-1);
+	}
+}
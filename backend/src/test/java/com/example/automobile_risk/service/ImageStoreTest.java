@@ -0,0 +1,96 @@
+package com.example.automobile_risk.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageStoreTest {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void storesValidImageOnceByContent() throws Exception {
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 1024, 10_485_760);
+		byte[] content = image(16, 16, "png");
+
+		ImageStore.StoredImage first = store.put(content, "a.png");
+		ImageStore.StoredImage second = store.put(content, "b.png");
+
+		assertThat(second.fileName()).isEqualTo(first.fileName());
+		assertThat(store.find(first.fileName())).isPresent();
+	}
+
+	@Test
+	void rejectsContentThatIsNotAnImage() {
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 1024, 10_485_760);
+
+		assertThatThrownBy(() -> store.put("<html></html>".getBytes(StandardCharsets.UTF_8), "page.png"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsFormatThatDoesNotMatchExtension() throws Exception {
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 1024, 10_485_760);
+
+		assertThatThrownBy(() -> store.put(image(16, 16, "png"), "photo.jpg"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsWebpWhichImageIoCannotRead() {
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 1024, 10_485_760);
+		// RIFF....WEBPVP8L 헤더 (JDK 에는 WebP 리더가 없다)
+		byte[] webp = {'R', 'I', 'F', 'F', 0x1a, 0, 0, 0, 'W', 'E', 'B', 'P', 'V', 'P', '8', 'L',
+				0x0d, 0, 0, 0, 0x2f, 0, 0, 0, 0x10, 0x07, 0x10, 0x11, 0x11, (byte) 0x88, (byte) 0x88, (byte) 0xfe, 0x07, 0};
+
+		assertThat(ImageStore.isSupported("photo.webp")).isFalse();
+		assertThat(ImageStore.isSupported("/static/result/photo.png")).isTrue();
+		assertThatThrownBy(() -> store.put(webp, "photo.webp"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("지원하지 않는 이미지 형식");
+	}
+
+	@Test
+	void rejectsOversizedDimensions() throws Exception {
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 64, 10_485_760);
+
+		assertThatThrownBy(() -> store.put(image(65, 8, "png"), "wide.png"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsFileOverSizeLimit() throws Exception {
+		byte[] content = image(64, 64, "bmp");
+		ImageStore store = new ImageStore(root.toString(), content.length - 1, 1024, 10_485_760);
+
+		assertThatThrownBy(() -> store.put(content, "big.bmp"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void stopsAcceptingNewImagesWhenStoreIsFull() throws Exception {
+		byte[] first = image(16, 16, "bmp");
+		ImageStore store = new ImageStore(root.toString(), 1_048_576, 1024, first.length);
+		store.put(first, "first.bmp");
+
+		assertThatThrownBy(() -> store.put(image(17, 17, "bmp"), "second.bmp"))
+				.isInstanceOf(IllegalStateException.class);
+		// 이미 있는 내용은 용량을 더 쓰지 않으므로 그대로 받는다
+		assertThat(store.put(first, "again.bmp").size()).isEqualTo(first.length);
+	}
+
+	private static byte[] image(int width, int height, String format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.automobile_risk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  단건 호출 vs micro-batch 호출 처리량 비교
+ *  실행: ML_BENCHMARK=true ./gradlew test --tests '*MLBatchCoalescerBenchmark'
+ */
+@EnabledIfEnvironmentVariable(named = "ML_BENCHMARK", matches = "true")
+class MLBatchCoalescerBenchmark {
+
+	private static final int REQUESTS = 1024;
+	private static final int CONCURRENCY = 64;
+
+	@Test
+	void compareDirectAndCoalescedThroughput() throws Exception {
+		// 추론 비용: 호출당 20ms 고정 + 건당 2ms
+		try (MLServiceStub stub = new MLServiceStub(20, 2)) {
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			MLGatewayClient gateway = new MLGatewayClient(
+					HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+					registry, new MockEnvironment(), stub.baseUrl(), 60_000);
+			MLBatchCoalescer coalescer = new MLBatchCoalescer(gateway, new ObjectMapper(), registry, 16, 2, 20);
+
+			try {
+				double direct = run(() -> {
+					MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
+					body.add("side", "left");
+					body.add("file", sampleImage());
+					gateway.post(MLEndpoint.WINDSHIELD, "", MediaType.MULTIPART_FORM_DATA, body);
+				});
+				int directCalls = stub.requestCount();
+
+				double coalesced = run(() -> coalescer.submit(MLEndpoint.WINDSHIELD, "left", sampleImage()).join());
+				int coalescedCalls = stub.requestCount() - directCalls;
+
+				System.out.printf("direct    : %.1f req/s, %d HTTP calls%n", direct, directCalls);
+				System.out.printf("coalesced : %.1f req/s, %d HTTP calls, mean batch %.1f%n",
+						coalesced, coalescedCalls, registry.get("ml.batch.size").summary().mean());
+
+				assertThat(coalescedCalls).isLessThan(directCalls);
+			} finally {
+				coalescer.shutdown();
+			}
+		}
+	}
+
+	/**
+	 *  CONCURRENCY 개의 동시 호출자로 REQUESTS 건 실행 → 초당 처리 건수
+	 */
+	private double run(Runnable call) throws Exception {
+		Semaphore permits = new Semaphore(CONCURRENCY);
+		List<Future<?>> futures = new ArrayList<>(REQUESTS);
+		long start = System.nanoTime();
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < REQUESTS; i++) {
+				permits.acquire();
+				futures.add(callers.submit(() -> {
+					try {
+						call.run();
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		}
+		return REQUESTS / ((System.nanoTime() - start) / 1e9);
+	}
+
+	private static Resource sampleImage() {
+		return new ByteArrayResource(new byte[32 * 1024]) {
+			@Override
+			public String getFilename() {
+				return "sample.jpg";
+			}
+		};
+	}
+}
@@ -0,0 +1,170 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.service.MLCircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MLCircuitBreakerTest {
+
+	private final List<State> transitions = new ArrayList<>();
+
+	private MLCircuitBreaker breaker(double failureRateThreshold, long openMillis) {
+		return new MLCircuitBreaker(4, 4, failureRateThreshold, openMillis, (from, to) -> transitions.add(to));
+	}
+
+	@Test
+	void staysClosedUntilMinimumCalls() {
+		MLCircuitBreaker breaker = breaker(50, 60_000);
+
+		for (int i = 0; i < 3; i++) {
+			long permit = breaker.tryAcquirePermission();
+			assertThat(permit).isNotEqualTo(MLCircuitBreaker.NO_PERMISSION);
+			breaker.onFailure(permit);
+		}
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+		recordFailure(breaker);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(transitions).containsExactly(State.OPEN);
+	}
+
+	@Test
+	void opensAtFailureRateThresholdAndRejectsWhileOpen() {
+		MLCircuitBreaker breaker = breaker(50, 60_000);
+
+		recordSuccess(breaker);
+		recordSuccess(breaker);
+		recordFailure(breaker);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+		recordFailure(breaker);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(MLCircuitBreaker.NO_PERMISSION);
+	}
+
+	@Test
+	void oldOutcomesLeaveTheWindow() {
+		MLCircuitBreaker breaker = breaker(40, 60_000);
+
+		recordFailure(breaker);
+		recordSuccess(breaker);
+		recordSuccess(breaker);
+		recordSuccess(breaker);
+		// 창 [S, S, S, F] = 25% (첫 실패가 밀려나지 않았다면 2/5 = 40% 로 OPEN)
+		recordFailure(breaker);
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void halfOpenAllowsSingleProbeAndClosesOnSuccess() {
+		MLCircuitBreaker breaker = breaker(50, 0);
+		open(breaker);
+
+		long probe = breaker.tryAcquirePermission();
+		assertThat(probe).isNotEqualTo(MLCircuitBreaker.NO_PERMISSION);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(MLCircuitBreaker.NO_PERMISSION);
+
+		breaker.onSuccess(probe);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN, State.CLOSED);
+
+		// 닫히면 창이 비워져 다시 minimumCalls 부터 센다
+		for (int i = 0; i < 3; i++) {
+			recordFailure(breaker);
+		}
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void failedProbeReopens() {
+		MLCircuitBreaker breaker = breaker(50, 0);
+		open(breaker);
+
+		breaker.onFailure(breaker.tryAcquirePermission());
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN, State.OPEN);
+	}
+
+	@Test
+	void releasedProbePermissionCanBeTakenAgain() {
+		MLCircuitBreaker breaker = breaker(50, 0);
+		open(breaker);
+
+		breaker.releasePermission(breaker.tryAcquirePermission());
+
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(MLCircuitBreaker.NO_PERMISSION);
+	}
+
+	@Test
+	void staysOpenUntilOpenDurationElapses() {
+		MLCircuitBreaker breaker = breaker(50, 60_000);
+		open(breaker);
+
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(MLCircuitBreaker.NO_PERMISSION);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(transitions).containsExactly(State.OPEN);
+	}
+
+	@Test
+	void lateFailureWhileOpenDoesNotExtendOpenPeriod() throws Exception {
+		MLCircuitBreaker breaker = breaker(50, 200);
+		// OPEN 전에 시작된 호출
+		long late = breaker.tryAcquirePermission();
+		open(breaker);
+
+		Thread.sleep(150);
+		breaker.onFailure(late);
+		Thread.sleep(100);
+
+		// 늦은 실패가 openedAt 을 밀었다면 아직 OPEN 이라 거절된다
+		assertThat(breaker.tryAcquirePermission()).isNotEqualTo(MLCircuitBreaker.NO_PERMISSION);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN);
+	}
+
+	@Test
+	void lateOutcomeInHalfOpenDoesNotDecide() {
+		MLCircuitBreaker breaker = breaker(50, 0);
+		long lateSuccess = breaker.tryAcquirePermission();
+		long lateFailure = breaker.tryAcquirePermission();
+		open(breaker);
+
+		long probe = breaker.tryAcquirePermission();
+		breaker.onSuccess(lateSuccess);
+		breaker.onFailure(lateFailure);
+		breaker.releasePermission(lateSuccess);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		// 시험 호출이 아직 진행 중이므로 다른 호출은 거절
+		assertThat(breaker.tryAcquirePermission()).isEqualTo(MLCircuitBreaker.NO_PERMISSION);
+
+		breaker.onFailure(probe);
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(transitions).containsExactly(State.OPEN, State.HALF_OPEN, State.OPEN);
+	}
+
+	// ========================================
+	//  Helpers
+	// ========================================
+
+	private static void recordSuccess(MLCircuitBreaker breaker) {
+		breaker.onSuccess(breaker.tryAcquirePermission());
+	}
+
+	private static void recordFailure(MLCircuitBreaker breaker) {
+		breaker.onFailure(breaker.tryAcquirePermission());
+	}
+
+	private static void open(MLCircuitBreaker breaker) {
+		for (int i = 0; i < 4; i++) {
+			recordFailure(breaker);
+		}
+	}
+}
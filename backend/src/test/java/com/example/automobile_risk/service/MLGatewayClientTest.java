@@ -0,0 +1,99 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.exception.MLServiceUnavailableException;
+import com.example.automobile_risk.service.MLServiceStub.Profile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *  MLGatewayClient hedging / 서킷 동작 (MLServiceStub 사용)
+ */
+class MLGatewayClientTest {
+
+	private static final long SLOW_MS = 1_000;
+	private static final long HEDGE_AFTER_MS = 100;
+
+	private MLServiceStub stub;
+	private MLGatewayClient gateway;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		stub = new MLServiceStub(Profile.of(0));
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("ml-gateway.welding-image.hedge-after-ms", String.valueOf(HEDGE_AFTER_MS))
+				.withProperty("ml-gateway.paint.hedge-after-ms", String.valueOf(HEDGE_AFTER_MS))
+				.withProperty("ml-gateway.circuit.window-size", "2")
+				.withProperty("ml-gateway.circuit.minimum-calls", "2");
+		gateway = new MLGatewayClient(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+				new SimpleMeterRegistry(), environment, stub.baseUrl(), 0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		gateway.shutdown();
+		stub.close();
+	}
+
+	@Test
+	void hedgesSlowOffsetRequestOnIdempotentEndpoint() {
+		stub.profile(MLEndpoint.WELDING_IMAGE, Profile.of(0).withLatency(slowFirstCall()));
+
+		long started = System.currentTimeMillis();
+		gateway.post(MLEndpoint.WELDING_IMAGE, "?offset=3", MediaType.APPLICATION_JSON, "{}");
+
+		assertThat(System.currentTimeMillis() - started).isLessThan(SLOW_MS);
+		assertThat(stub.requestCount()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotHedgeRequestWithoutOffset() {
+		stub.profile(MLEndpoint.WELDING_IMAGE, Profile.of(0).withLatency(slowFirstCall()));
+
+		long started = System.currentTimeMillis();
+		gateway.post(MLEndpoint.WELDING_IMAGE, "", MediaType.APPLICATION_JSON, "{}");
+
+		assertThat(System.currentTimeMillis() - started).isGreaterThanOrEqualTo(SLOW_MS);
+		assertThat(stub.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotHedgeNonIdempotentEndpoint() {
+		stub.profile(MLEndpoint.PAINT, Profile.of(0).withLatency(slowFirstCall()));
+
+		gateway.post(MLEndpoint.PAINT, "?offset=3", MediaType.APPLICATION_JSON, "{}");
+
+		assertThat(stub.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void openCircuitRejectsWithoutCallingService() {
+		stub.profile(MLEndpoint.PRESS_IMAGE, Profile.of(0).withFailureRate(1.0));
+
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> gateway.post(MLEndpoint.PRESS_IMAGE, "", MediaType.APPLICATION_JSON, "{}"))
+					.isInstanceOf(HttpServerErrorException.class);
+		}
+		assertThatThrownBy(() -> gateway.post(MLEndpoint.PRESS_IMAGE, "", MediaType.APPLICATION_JSON, "{}"))
+				.isInstanceOf(MLServiceUnavailableException.class);
+		assertThat(stub.requestCount()).isEqualTo(2);
+	}
+
+	/**
+	 *  첫 호출만 SLOW_MS 지연
+	 */
+	private static MLServiceStub.LatencyDistribution slowFirstCall() {
+		AtomicInteger calls = new AtomicInteger();
+		return () -> calls.getAndIncrement() == 0 ? SLOW_MS : 0;
+	}
+}
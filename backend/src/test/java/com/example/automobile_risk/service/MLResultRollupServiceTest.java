@@ -0,0 +1,67 @@
+package com.example.automobile_risk.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ *  시간별 집계 히스토그램 구간 / 백분위 계산
+ */
+class MLResultRollupServiceTest {
+
+	private static final IntToDoubleFunction CONFIDENCE_UPPER = i -> (i + 1.0) / 20;
+
+	@Test
+	void confidenceBucketBoundaries() {
+		assertThat(MLResultRollupService.confidenceBucket(-0.1)).isZero();
+		assertThat(MLResultRollupService.confidenceBucket(0.0)).isZero();
+		assertThat(MLResultRollupService.confidenceBucket(0.049)).isZero();
+		assertThat(MLResultRollupService.confidenceBucket(0.05)).isEqualTo(1);
+		assertThat(MLResultRollupService.confidenceBucket(0.5)).isEqualTo(10);
+		assertThat(MLResultRollupService.confidenceBucket(0.999)).isEqualTo(19);
+		assertThat(MLResultRollupService.confidenceBucket(1.0)).isEqualTo(19);
+	}
+
+	@Test
+	void percentScaleConfidenceIsNormalized() {
+		assertThat(MLResultRollupService.confidenceBucket(50.0)).isEqualTo(MLResultRollupService.confidenceBucket(0.5));
+		assertThat(MLResultRollupService.confidenceBucket(95.0)).isEqualTo(19);
+		assertThat(MLResultRollupService.confidenceBucket(100.0)).isEqualTo(19);
+		// 1 을 넘으면 백분율 → 1.5% 는 첫 구간
+		assertThat(MLResultRollupService.confidenceBucket(1.5)).isZero();
+	}
+
+	@Test
+	void reconstructionErrorBucketBoundaries() {
+		assertThat(MLResultRollupService.reconstructionErrorBucket(0.0)).isZero();
+		assertThat(MLResultRollupService.reconstructionErrorBucket(1e-4)).isZero();
+		assertThat(MLResultRollupService.reconstructionErrorBucket(1.5e-4)).isEqualTo(1);
+		assertThat(MLResultRollupService.reconstructionErrorBucket(2e-4)).isEqualTo(1);
+		assertThat(MLResultRollupService.reconstructionErrorBucket(2.0001e-4)).isEqualTo(2);
+		assertThat(MLResultRollupService.reconstructionErrorBucket(1e-3)).isEqualTo(4);
+		// 마지막 구간은 초과분 전부
+		assertThat(MLResultRollupService.reconstructionErrorBucket(1e3)).isEqualTo(23);
+	}
+
+	@Test
+	void percentilesReturnUpperBoundOfBucketReachingTheRank() {
+		int[] buckets = new int[20];
+		buckets[2] = 50;
+		buckets[10] = 40;
+		buckets[18] = 9;
+		buckets[19] = 1;
+
+		assertThat(MLResultRollupService.percentile(buckets, 0.50, CONFIDENCE_UPPER)).isCloseTo(0.15, within(1e-9));
+		assertThat(MLResultRollupService.percentile(buckets, 0.90, CONFIDENCE_UPPER)).isCloseTo(0.55, within(1e-9));
+		assertThat(MLResultRollupService.percentile(buckets, 0.99, CONFIDENCE_UPPER)).isCloseTo(0.95, within(1e-9));
+	}
+
+	@Test
+	void percentileOfEmptyHistogramIsNull() {
+		assertThat(MLResultRollupService.percentile(new int[20], 0.5, CONFIDENCE_UPPER)).isNull();
+		assertThat(MLResultRollupService.percentile(null, 0.5, CONFIDENCE_UPPER)).isNull();
+	}
+}
@@ -0,0 +1,185 @@
+package com.example.automobile_risk.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  FastAPI ML 서비스 대역 (테스트/벤치마크/부하 테스트용)
+ *  MLEndpoint 의 모든 경로를 흉내내며, 엔드포인트별로 응답 지연 분포, 응답 크기, 실패율을 바꿀 수 있다.
+ *  응답 지연 = latency 분포 샘플 + perItemLatency × 요청 건수(배치)
+ */
+public class MLServiceStub implements AutoCloseable {
+
+	/**
+	 *  응답 지연 분포 (ms)
+	 */
+	@FunctionalInterface
+	public interface LatencyDistribution {
+
+		long sampleMillis();
+
+		static LatencyDistribution fixed(long millis) {
+			return () -> millis;
+		}
+
+		static LatencyDistribution uniform(long minMillis, long maxMillis) {
+			return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+		}
+
+		/**
+		 *  꼬리가 긴 실제 추론 지연에 가까운 분포 (median 기준, sigma 가 클수록 꼬리가 길다)
+		 */
+		static LatencyDistribution logNormal(double medianMillis, double sigma) {
+			return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+		}
+	}
+
+	/**
+	 *  엔드포인트 동작 설정
+	 *  @param payloadBytes 결과 JSON 에 덧붙일 padding 크기 (배치는 항목마다)
+	 *  @param failureRate  0.0 ~ 1.0, 해당 비율만큼 500 응답
+	 */
+	public record Profile(LatencyDistribution latency, long perItemLatencyMillis, int payloadBytes, double failureRate) {
+
+		public static Profile of(long latencyMillis) {
+			return new Profile(LatencyDistribution.fixed(latencyMillis), 0, 0, 0.0);
+		}
+
+		public Profile withLatency(LatencyDistribution latency) {
+			return new Profile(latency, perItemLatencyMillis, payloadBytes, failureRate);
+		}
+
+		public Profile withPerItemLatency(long perItemLatencyMillis) {
+			return new Profile(latency, perItemLatencyMillis, payloadBytes, failureRate);
+		}
+
+		public Profile withPayloadBytes(int payloadBytes) {
+			return new Profile(latency, perItemLatencyMillis, payloadBytes, failureRate);
+		}
+
+		public Profile withFailureRate(double failureRate) {
+			return new Profile(latency, perItemLatencyMillis, payloadBytes, failureRate);
+		}
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Profile defaultProfile;
+	private final Map<MLEndpoint, Profile> profiles = new ConcurrentHashMap<>();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private final AtomicInteger failureCount = new AtomicInteger();
+
+	public MLServiceStub(long baseLatencyMillis, long perItemLatencyMillis) throws IOException {
+		this(Profile.of(baseLatencyMillis).withPerItemLatency(perItemLatencyMillis));
+	}
+
+	public MLServiceStub(Profile defaultProfile) throws IOException {
+		this.defaultProfile = defaultProfile;
+
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(executor);
+		for (MLEndpoint endpoint : MLEndpoint.values()) {
+			server.createContext(endpoint.getPath(), exchange -> handle(exchange, endpoint));
+		}
+		server.start();
+	}
+
+	/**
+	 *  엔드포인트별 동작 변경 (실행 중에도 가능)
+	 */
+	public MLServiceStub profile(MLEndpoint endpoint, Profile profile) {
+		profiles.put(endpoint, profile);
+		return this;
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/**
+	 *  지금까지 받은 HTTP 요청 수 (배치 1회 = 1)
+	 */
+	public int requestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 *  실패(500)로 응답한 요청 수
+	 */
+	public int failureCount() {
+		return failureCount.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange, MLEndpoint endpoint) throws IOException {
+		requestCount.incrementAndGet();
+		Profile profile = profiles.getOrDefault(endpoint, defaultProfile);
+		boolean batch = endpoint == MLEndpoint.WINDSHIELD_BATCH || endpoint == MLEndpoint.ENGINE_BATCH;
+
+		String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+		int items = batch ? countOccurrences(body, "name=\"files\"") : 1;
+
+		try {
+			Thread.sleep(Math.max(0, profile.latency().sampleMillis()) + profile.perItemLatencyMillis() * items);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (ThreadLocalRandom.current().nextDouble() < profile.failureRate()) {
+			failureCount.incrementAndGet();
+			respond(exchange, 500, "{\"detail\":\"stub failure\"}");
+			return;
+		}
+
+		String result = singleResult(profile.payloadBytes());
+		respond(exchange, 200, batch ? batchResponse(result, items) : result);
+	}
+
+	private static void respond(HttpExchange exchange, int status, String response) throws IOException {
+		byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static String singleResult(int payloadBytes) {
+		return "{\"status\":\"success\",\"prediction\":0,\"confidence\":0.97,\"is_anomaly\":0,\"message\":\"stub\""
+				+ (payloadBytes > 0 ? ",\"padding\":\"" + "a".repeat(payloadBytes) + "\"" : "")
+				+ "}";
+	}
+
+	private static String batchResponse(String result, int items) {
+		StringJoiner results = new StringJoiner(",", "{\"results\":[", "]}");
+		for (int i = 0; i < items; i++) {
+			results.add(result);
+		}
+		return results.toString();
+	}
+
+	private static int countOccurrences(String text, String token) {
+		int count = 0;
+		for (int index = text.indexOf(token); index >= 0; index = text.indexOf(token, index + token.length())) {
+			count++;
+		}
+		return count;
+	}
+}
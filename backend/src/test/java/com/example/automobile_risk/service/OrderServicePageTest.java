@@ -0,0 +1,132 @@
+package com.example.automobile_risk.service;
+
+import com.example.automobile_risk.entity.Order;
+import com.example.automobile_risk.entity.VehicleModel;
+import com.example.automobile_risk.entity.enumclass.OrderStatus;
+import com.example.automobile_risk.exception.InvalidCursorException;
+import com.example.automobile_risk.repository.OrderProductionRepository;
+import com.example.automobile_risk.repository.OrderRepository;
+import com.example.automobile_risk.repository.VehicleModelRepository;
+import com.example.automobile_risk.service.dto.OrderListResponse;
+import com.example.automobile_risk.service.dto.OrderPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ *  주문 목록 keyset 페이지 (dueDate, id) — 내장 H2
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class OrderServicePageTest {
+
+	private static final LocalDateTime ORDERED = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private VehicleModelRepository vehicleModelRepository;
+
+	@Autowired
+	private OrderProductionRepository orderProductionRepository;
+
+	private OrderService orderService;
+	private VehicleModel vehicleModel;
+
+	@BeforeEach
+	void setUp() {
+		orderService = new OrderService(orderRepository, vehicleModelRepository, orderProductionRepository, event -> {});
+		vehicleModel = vehicleModelRepository.save(VehicleModel.builder().modelName("Sonata").isActive(true).build());
+	}
+
+	@Test
+	void pagesThroughTiedDueDatesWithoutGapsOrDuplicates() {
+		List<Long> expected = new ArrayList<>();
+		// 납기 3개에 4건씩 (같은 납기 안에서는 id 순)
+		for (int day = 3; day >= 1; day--) {
+			for (int i = 0; i < 4; i++) {
+				expected.add(save(due(day), false).getId());
+			}
+		}
+		expected.sort((a, b) -> {
+			int byDue = dueOf(a).compareTo(dueOf(b));
+			return byDue != 0 ? byDue : a.compareTo(b);
+		});
+
+		List<Long> seen = readAll(null, null, null, 5);
+
+		assertThat(seen).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void lastPageHasNoNextCursor() {
+		save(due(1), false);
+		save(due(2), false);
+
+		OrderPageResponse page = orderService.getOrderPage(null, null, null, null, 2);
+
+		assertThat(page.getItems()).hasSize(2);
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void combinesStatusAndDueDateFilters() {
+		save(due(1), true);
+		Long inRange = save(due(2), false).getId();
+		Long inRangeTied = save(due(2), false).getId();
+		save(due(2), true);
+		Long inRangeLater = save(due(3), false).getId();
+		save(due(4), false);
+
+		// dueFrom 이상, dueTo 미만
+		List<Long> seen = readAll(OrderStatus.CREATED, due(2), due(4), 1);
+
+		assertThat(seen).containsExactly(inRange, inRangeTied, inRangeLater);
+	}
+
+	@Test
+	void rejectsCursorThatCannotBeDecoded() {
+		assertThatThrownBy(() -> orderService.getOrderPage(null, null, null, "not-a-cursor", 10))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	// ========================================
+	//  Helpers
+	// ========================================
+
+	private List<Long> readAll(OrderStatus status, LocalDateTime dueFrom, LocalDateTime dueTo, int size) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			OrderPageResponse page = orderService.getOrderPage(status, dueFrom, dueTo, cursor, size);
+			assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+			page.getItems().stream().map(OrderListResponse::getOrderId).forEach(ids::add);
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return ids;
+	}
+
+	private Order save(LocalDateTime dueDate, boolean cancelled) {
+		Order order = Order.createOrder(ORDERED, dueDate, 1, vehicleModel);
+		if (cancelled) {
+			order.cancel();
+		}
+		return orderRepository.save(order);
+	}
+
+	private LocalDateTime dueOf(Long orderId) {
+		return orderRepository.findById(orderId).orElseThrow().getDueDate();
+	}
+
+	private static LocalDateTime due(int day) {
+		return LocalDateTime.of(2026, 2, day, 18, 0);
+	}
+}
@@ -1,6 +1,7 @@
 // src/components/PaintQualityDashboard.tsx
 import React, { useEffect, useMemo, useRef, useState } from "react";
 import { AlertTriangle, CheckCircle2, Paintbrush, Timer, Target } from "lucide-react";
+import { AnalysisHistory, getAnalysisHistory, thumbnailUrlOf } from "../services/paintAnalysis";
 
 type Severity = "LOW" | "MEDIUM" | "HIGH" | "CRITICAL";
 
@@ -9,11 +10,11 @@ type DetectedDefect = {
   defectNameKo: string;
   defectNameEn?: string;
   confidence: number; // percent
-  bboxX1: number;
-  bboxY1: number;
-  bboxX2: number;
-  bboxY2: number;
-  bboxArea: number;
+  bboxX1?: number; // 저장된 이력(/history)에는 bbox 없음
+  bboxY1?: number;
+  bboxX2?: number;
+  bboxY2?: number;
+  bboxArea?: number;
   severityLevel: Severity;
 };
 
@@ -46,9 +47,10 @@ type HistoryItem = {
   status: "PASS" | "FAIL";
   primaryDefectTypeKo: string | null;
   confidence: number;
-  inferenceTimeMs: number;
+  inferenceTimeMs: number | null; // 저장된 이력에는 없음
   originalImageUrl: string;
   resultImageUrl: string;
+  thumbnailUrl: string | null; // 256px 썸네일 (백엔드 이미지 저장소에 있을 때만)
   defects: DetectedDefect[];
 };
 
@@ -69,6 +71,7 @@ function safePercent(n: any, fallback = 0) {
 function normalizeUrl(path: string | null | undefined) {
   if (!path) return "";
   if (path.startsWith("http://") || path.startsWith("https://")) return path;
+  if (path.startsWith("/api/")) return path; // 백엔드 이미지 저장소 (/api/v1/images)
   return `${API_BASE}${path}`;
 }
 
@@ -157,6 +160,51 @@ function Card({
   );
 }
 
+// 이력 목록용 썸네일 (썸네일이 없으면 결과 이미지를 축소 표시)
+function HistoryThumb({ item }: { item: HistoryItem }) {
+  const src = normalizeUrl(item.thumbnailUrl || item.resultImageUrl);
+  const [broken, setBroken] = useState(false);
+
+  if (!src || broken) {
+    return <div className="w-12 h-12 rounded-lg bg-gray-100 border border-gray-200" />;
+  }
+
+  return (
+    <img
+      src={src}
+      alt=""
+      loading="lazy"
+      decoding="async"
+      onError={() => setBroken(true)}
+      className="w-12 h-12 rounded-lg object-cover border border-gray-200"
+    />
+  );
+}
+
+// 저장된 분석 이력(백엔드) → 화면 이력 항목
+function fromStoredHistory(h: AnalysisHistory): HistoryItem {
+  const status: "PASS" | "FAIL" = h.status === "PASS" ? "PASS" : "FAIL";
+  const defects: DetectedDefect[] = (h.detectedDefects || []).map((d) => ({
+    defectClass: d.defectClass,
+    defectNameKo: d.defectNameKo,
+    confidence: d.confidence,
+    severityLevel: d.severityLevel as Severity,
+  }));
+  const resultUrl = h.resultImageUrl || h.imageUrl || "";
+  return {
+    resultId: h.resultId,
+    analyzedAt: h.analyzedAt,
+    status,
+    primaryDefectTypeKo: status === "PASS" ? "정상" : defects[0]?.defectNameKo ?? h.primaryDefectType ?? null,
+    confidence: h.confidence,
+    inferenceTimeMs: null,
+    originalImageUrl: h.imageUrl || "",
+    resultImageUrl: resultUrl,
+    thumbnailUrl: h.thumbnailUrl ?? thumbnailUrlOf(resultUrl),
+    defects,
+  };
+}
+
 function CurrentImage({ url }: { url: string }) {
   const full = normalizeUrl(url);
   const [broken, setBroken] = useState(false);
@@ -196,10 +244,11 @@ export const PaintQualityDashboard: React.FC = () => {
     const avgConf =
       total === 0 ? 0 : history.reduce((acc, h) => acc + (h.confidence || 0), 0) / total;
 
+    const timed = history.filter((h) => h.inferenceTimeMs != null);
     const avgLatency =
-      total === 0
+      timed.length === 0
         ? 0
-        : history.reduce((acc, h) => acc + (h.inferenceTimeMs || 0), 0) / total;
+        : timed.reduce((acc, h) => acc + (h.inferenceTimeMs || 0), 0) / timed.length;
 
     const passRate = total === 0 ? 0 : (pass / total) * 100;
     const defectRate = total === 0 ? 0 : (fail / total) * 100;
@@ -235,6 +284,7 @@ export const PaintQualityDashboard: React.FC = () => {
       inferenceTimeMs: json.data.inference_time_ms ?? 0,
       originalImageUrl: originalUrl,
       resultImageUrl: resultUrl,
+      thumbnailUrl: thumbnailUrlOf(resultUrl),
       defects,
     } as HistoryItem;
   };
@@ -282,6 +332,14 @@ export const PaintQualityDashboard: React.FC = () => {
   useEffect(() => {
     if (firstRunRef.current) {
       firstRunRef.current = false;
+      // 저장된 최근 이력으로 목록을 먼저 채운다 (이미 받은 AUTO 결과가 앞에 온다)
+      getAnalysisHistory().then((stored) => {
+        setHistory((prev) => {
+          const seen = new Set(prev.map((h) => h.resultId));
+          const restored = stored.filter((h) => !seen.has(h.resultId)).map(fromStoredHistory);
+          return [...prev, ...restored].slice(0, 50);
+        });
+      });
       fetchAutoOnce();
     }
 
@@ -453,7 +511,9 @@ export const PaintQualityDashboard: React.FC = () => {
                   </div>
                   <div>
                     <div className="text-xs text-gray-500">처리시간</div>
-                    <div className="text-gray-900 font-semibold mt-1">{current.inferenceTimeMs}ms</div>
+                    <div className="text-gray-900 font-semibold mt-1">
+                      {current.inferenceTimeMs != null ? `${current.inferenceTimeMs}ms` : "-"}
+                    </div>
                   </div>
                   <div>
                     <div className="text-xs text-gray-500">검출 개수</div>
@@ -477,9 +537,11 @@ export const PaintQualityDashboard: React.FC = () => {
                           <div>
                             <div className="font-bold text-gray-900">{d.defectNameKo}</div>
                             <div className="text-xs text-gray-500 mt-1">{d.defectClass}</div>
-                            <div className="text-[11px] text-gray-500 mt-2">
-                              bbox: ({d.bboxX1},{d.bboxY1}) ~ ({d.bboxX2},{d.bboxY2})
-                            </div>
+                            {d.bboxX1 != null ? (
+                              <div className="text-[11px] text-gray-500 mt-2">
+                                bbox: ({d.bboxX1},{d.bboxY1}) ~ ({d.bboxX2},{d.bboxY2})
+                              </div>
+                            ) : null}
                           </div>
 
                           <div className="text-right">
@@ -524,6 +586,7 @@ export const PaintQualityDashboard: React.FC = () => {
           <table className="w-full text-sm">
             <thead className="bg-gray-50 border-b border-gray-200 sticky top-0">
               <tr className="text-left text-gray-600">
+                <th className="p-3 font-semibold">이미지</th>
                 <th className="p-3 font-semibold">시간</th>
                 <th className="p-3 font-semibold">상태</th>
                 <th className="p-3 font-semibold">대표 결함</th>
@@ -534,7 +597,7 @@ export const PaintQualityDashboard: React.FC = () => {
             <tbody>
               {history.length === 0 ? (
                 <tr>
-                  <td colSpan={5} className="text-center p-10 text-gray-400">
+                  <td colSpan={6} className="text-center p-10 text-gray-400">
                     분석 이력이 없습니다.
                   </td>
                 </tr>
@@ -546,6 +609,9 @@ export const PaintQualityDashboard: React.FC = () => {
                     onClick={() => setCurrent(h)}
                     title="클릭하면 해당 결과를 다시 표시합니다"
                   >
+                    <td className="p-3">
+                      <HistoryThumb item={h} />
+                    </td>
                     <td className="p-3 whitespace-nowrap text-gray-700">
                       {new Date(h.analyzedAt).toLocaleString("ko-KR", {
                         month: "2-digit",
@@ -566,7 +632,7 @@ export const PaintQualityDashboard: React.FC = () => {
                     </td>
                     <td className="p-3 text-gray-800">{h.primaryDefectTypeKo || "-"}</td>
                     <td className="p-3 font-mono text-gray-900">{safePercent(h.confidence, 0).toFixed(0)}%</td>
-                    <td className="p-3 text-gray-800">{h.inferenceTimeMs}ms</td>
+                    <td className="p-3 text-gray-800">{h.inferenceTimeMs != null ? `${h.inferenceTimeMs}ms` : "-"}</td>
                   </tr>
                 ))
               )}
@@ -25,6 +25,7 @@ export interface AnalysisHistory {
   imageFilename: string;
   imageUrl: string;
   resultImageUrl: string;
+  thumbnailUrl?: string | null; // 256px 썸네일 (/api/v1/images/.../thumbnail), 목록/갤러리용
   status: string;
   primaryDefectType?: string;
   confidence: number;
@@ -88,6 +89,12 @@ export async function getTodayStatistics(): Promise<PaintStatistics> {
   }
 }
 
+// 백엔드 이미지 저장소 URL → 썸네일 URL (저장소 URL 이 아니면 null, 백엔드 ImageStore.thumbnailUrlOf 와 동일 규칙)
+export function thumbnailUrlOf(url: string | null | undefined): string | null {
+  if (!url || !url.startsWith('/api/v1/images/')) return null;
+  return url.endsWith('/thumbnail') ? url : `${url}/thumbnail`;
+}
+
 // 전체 분석 이력 가져오기
 export async function getAnalysisHistory(): Promise<AnalysisHistory[]> {
   try {
@@ -183,9 +183,11 @@ def predict_part_auto(
     conf: float = 0.25,
     iou: float = 0.45,
     max_det: int = 100,
+    offset: Optional[int] = None,
 ) -> Dict[str, Any]:
     """
     samples 폴더에서 part별 이미지를 순차로 꺼내서 predict_part 수행
+    offset 지정 시 offset % 파일 수 번째 이미지 (part별 커서는 건드리지 않음)
     return에 source/sequence/original_image_path 포함
     """
     part = part.strip().lower()
@@ -201,18 +203,21 @@ def predict_part_auto(
             f"[body_assembly] no sample images: {os.path.join(base_dir, 'body_assembly', 'samples', part)}"
         )
 
-    idx = int(AUTO_STATE["INDEX"].get(part, 0))
-    if idx >= len(sample_paths):
-        idx = 0
+    if offset is not None:
+        chosen_path = sample_paths[offset % len(sample_paths)]
+    else:
+        idx = int(AUTO_STATE["INDEX"].get(part, 0))
+        if idx >= len(sample_paths):
+            idx = 0
 
-    chosen_path = sample_paths[idx]
-    AUTO_STATE["INDEX"][part] = idx + 1  # 다음 호출 대비
+        chosen_path = sample_paths[idx]
+        AUTO_STATE["INDEX"][part] = idx + 1  # 다음 호출 대비
 
     with open(chosen_path, "rb") as f:
         image_bytes = f.read()
 
     pred = predict_part(part, image_bytes, conf=conf, iou=iou, max_det=max_det)
     pred["source"] = chosen_path
-    pred["sequence"] = {"index_next": AUTO_STATE["INDEX"][part], "count": len(sample_paths)}
+    pred["sequence"] = {"index_next": AUTO_STATE["INDEX"][part], "offset": offset, "count": len(sample_paths)}
     pred["original_image_path"] = chosen_path
     return pred
\ No newline at end of file
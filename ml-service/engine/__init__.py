@@ -104,3 +104,40 @@ def predict_from_arff(arff_bytes: bytes):
 
     judgement = "NORMAL" if pred == NORMAL_LABEL else "ABNORMAL"
     return pred, judgement
+
+
+def predict_batch_from_arff(arff_bytes_list):
+    """
+    배치 예측 (길이가 같은 입력끼리 묶어 model.predict 를 한 번씩만 호출)
+    Return: [{"prediction", "judgement"} | {"error"}, ...]  (입력 순서 유지)
+    """
+    global model
+    if model is None:
+        raise RuntimeError("Engine model not loaded")
+
+    results = [None] * len(arff_bytes_list)
+    by_length = {}
+
+    for i, arff_bytes in enumerate(arff_bytes_list):
+        try:
+            X = _parse_arff_bytes(arff_bytes)
+            if X.ndim != 2 or X.shape[0] < 1:
+                raise ValueError("ARFF is empty or invalid")
+            by_length.setdefault(X.shape[1], []).append((i, X[0]))
+        except Exception as e:
+            results[i] = {"error": str(e)}
+
+    for entries in by_length.values():
+        try:
+            batch = _ensure_model_input_shape(np.stack([x for _, x in entries]))
+            y = model.predict(batch, verbose=0)
+        except Exception as e:
+            for i, _ in entries:
+                results[i] = {"error": str(e)}
+            continue
+
+        for row, (i, _) in enumerate(entries):
+            pred = _postprocess_to_01(y[row:row + 1])
+            results[i] = {"prediction": pred, "judgement": "NORMAL" if pred == NORMAL_LABEL else "ABNORMAL"}
+
+    return results
@@ -2,6 +2,7 @@ import os
 import shutil
 import uuid
 import traceback
+from typing import List, Optional
 
 from fastapi import FastAPI, HTTPException, UploadFile, File, Form
 from fastapi.middleware.cors import CORSMiddleware
@@ -134,6 +135,38 @@ async def predict_engine_endpoint(file: UploadFile = File(...)):
         raise HTTPException(status_code=500, detail=str(e))
 
 
+# =========================
+# Windshield / Engine 배치 (Spring 프록시의 micro-batching 용)
+# - 입력 순서대로 results 배열 반환, 실패 항목은 {"error": ...}
+# =========================
+@app.post("/api/v1/smartfactory/windshield/batch")
+async def predict_windshield_batch_endpoint(
+    sides: List[str] = Form(...),
+    files: List[UploadFile] = File(...),
+):
+    try:
+        if len(sides) != len(files):
+            raise HTTPException(status_code=400, detail="sides and files must have the same length")
+
+        items = [(side, await f.read()) for side, f in zip(sides, files)]
+        return {"results": windshield.predict_batch_from_csv(items)}
+    except HTTPException:
+        raise
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=str(e))
+
+
+@app.post("/api/v1/smartfactory/engine/batch")
+async def predict_engine_batch_endpoint(files: List[UploadFile] = File(...)):
+    try:
+        arff_list = [await f.read() for f in files]
+        return {"results": engine.predict_batch_from_arff(arff_list)}
+    except HTTPException:
+        raise
+    except Exception as e:
+        raise HTTPException(status_code=500, detail=str(e))
+
+
 # =========================
 # Welding Image (본래 welding-image FastAPI 계약과 동일)
 # - 입력: file
@@ -185,12 +218,12 @@ async def predict_welding_original(file: UploadFile = File(...)):
         traceback.print_exc()
         raise HTTPException(status_code=500, detail=str(e))
 
-# ✅ 자동 입력(폴더 순차)
+# ✅ 자동 입력(폴더 순차, ?offset=N 이면 N % 파일 수 번째 이미지 - 상태 없음)
 @app.post("/api/v1/smartfactory/welding/image/auto")
-async def predict_welding_auto():
+async def predict_welding_auto(offset: Optional[int] = None):
     try:
         # result = {"status","defects","result_image_path", "source","sequence","original_image_path"}
-        result = welding_image.predict_welding_image_auto()
+        result = welding_image.predict_welding_image_auto(offset)
 
         original_abs = result.get("original_image_path")
         original_url = to_public_url(original_abs) if original_abs else None
@@ -249,8 +282,9 @@ async def predict_paint_endpoint(file: UploadFile = File(...)):
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
     
+# ✅ ?offset=N 이면 N % 파일 수 번째 이미지를 매번 새로 예측 (throttle/공유 커서 없음)
 @app.post("/api/v1/smartfactory/paint/auto")
-def predict_paint_auto():
+def predict_paint_auto(offset: Optional[int] = None):
     try:
         if PAINT_CFG is None:
             raise HTTPException(status_code=500, detail="paint config not initialized")
@@ -261,6 +295,7 @@ def predict_paint_auto():
             save_label_dir=PAINT_CFG["SAVE_LABEL_DIR"],
             save_result_dir=PAINT_CFG["SAVE_RESULT_DIR"],
             backend_url="http://localhost:3001/api/paint-analysis",
+            offset=offset,
         )
         return JSONResponse(status_code=200, content=result)
 
@@ -272,6 +307,7 @@ def predict_paint_auto():
 # =========================
 # PRESS APIs (SIM INPUT)
 # =========================
+# 진동은 시뮬 시계열 스트림(호출마다 다음 구간) → offset 으로 특정 샘플을 지정할 수 없어 무시한다
 @app.post("/api/v1/smartfactory/press/vibration")
 def predict_press_vibration():
     try:
@@ -281,9 +317,9 @@ def predict_press_vibration():
 
 
 @app.post("/api/v1/smartfactory/press/image")
-async def predict_press_image():
+async def predict_press_image(offset: Optional[int] = None):
     try:
-        return await press.predict_press_image_sim()
+        return await press.predict_press_image_sim(offset)
     except Exception as e:
         raise HTTPException(status_code=500, detail=str(e))
     
@@ -408,15 +444,17 @@ async def body_inspect_auto(
 @app.post("/api/v1/smartfactory/body/inspect/batch/auto")
 async def body_inspect_batch_auto(
     conf: float = Form(0.25),
+    offset: Optional[int] = None,
 ):
     """
     5개 파트 모두 samples에서 자동으로 하나씩 꺼내서 배치 검사
+    ?offset=N 이면 파트별 N % 파일 수 번째 이미지 (상태 없음)
     """
     try:
         results = {}
         for part in ["door", "bumper", "headlamp", "taillamp", "radiator"]:
             try:
-                pred = body_service.predict_part_auto(part, BASE_DIR, conf=float(conf))
+                pred = body_service.predict_part_auto(part, BASE_DIR, conf=float(conf), offset=offset)
                 out_path = body_service.save_annotated_image(pred["annotated_bgr"], BASE_DIR, filename_prefix=part)
 
                 original_abs = pred.get("original_image_path")
@@ -65,11 +65,46 @@ def load_paint_model(base_dir: str):
     }
 
 
-def _save_to_backend(backend_url: str, analysis_data: dict):
+def _upload_image(backend_url: str, path: str):
+    """백엔드 이미지 저장소(/api/v1/images)에 올리고 URL 반환, 실패하면 None
+    업로드는 서비스 토큰(SERVICE_TOKEN 환경변수, X-Service-Token 헤더)이 있어야 허용된다"""
+    if not path or not os.path.exists(path):
+        return None
+    service_token = os.getenv("SERVICE_TOKEN")
+    if not service_token:
+        return None
+    images_url = backend_url.split("/api/", 1)[0] + "/api/v1/images"
     try:
-        r = requests.post(f"{backend_url}/save", json=analysis_data, timeout=5)
+        with open(path, "rb") as f:
+            r = requests.post(
+                images_url,
+                files={"file": (os.path.basename(path), f)},
+                headers={"X-Service-Token": service_token},
+                timeout=5,
+            )
         if r.status_code == 200:
-            print(f"✅ paint saved: {analysis_data['resultId']}")
+            return r.json().get("url")
+        print(f"⚠️ paint image upload failed: {r.status_code}")
+    except Exception as e:
+        print(f"❌ paint image upload error: {e}")
+    return None
+
+
+def _save_to_backend(backend_url: str, analysis_data: dict, original_path: str = None, result_path: str = None):
+    # 이미지는 백엔드 저장소에 올려 그 URL 로 저장 (실패하면 ML 서비스 /static URL 유지)
+    original_url = _upload_image(backend_url, original_path)
+    if original_url:
+        analysis_data["imageUrl"] = original_url
+    result_url = _upload_image(backend_url, result_path)
+    if result_url:
+        analysis_data["resultImageUrl"] = result_url
+
+    # resultId 기준 멱등인 batch 엔드포인트 사용 (타임아웃 후 재전송/동시 전송도 DUPLICATE 로 끝난다)
+    try:
+        r = requests.post(f"{backend_url}/save/batch", json=[analysis_data], timeout=5)
+        if r.status_code == 200:
+            item = (r.json().get("items") or [{}])[0]
+            print(f"✅ paint saved: {analysis_data['resultId']} ({item.get('status')})")
         else:
             print(f"⚠️ paint backend save failed: {r.status_code}")
     except Exception as e:
@@ -140,6 +175,8 @@ def predict_paint_defect(
                 "imageUrl": public_img_path,
                 "resultImageUrl": public_result_img,
                 "imageSizeKb": int(os.path.getsize(image_path) / 1024),
+                "imageWidth": int(r.orig_shape[1]),
+                "imageHeight": int(r.orig_shape[0]),
                 "status": "PASS",
                 "primaryDefectType": None,
                 "confidence": 100.0,
@@ -148,7 +185,10 @@ def predict_paint_defect(
                 "locationCode": "도장실-A",
                 "detectedDefects": []
             }
-            _save_to_backend(backend_url, backend_data)
+            _save_to_backend(backend_url, backend_data, image_path,
+                             result_img_fs if os.path.exists(result_img_fs) else image_path)
+            public_img_path = backend_data["imageUrl"]
+            public_result_img = backend_data["resultImageUrl"]
 
             # 원본 삭제(원하면 유지로 변경 가능)
             if os.path.exists(image_path):
@@ -228,6 +268,8 @@ def predict_paint_defect(
             "imageUrl": public_img_path,
             "resultImageUrl": public_result_img,
             "imageSizeKb": int(os.path.getsize(image_path) / 1024),
+            "imageWidth": int(r.orig_shape[1]),
+            "imageHeight": int(r.orig_shape[0]),
             "status": "FAIL",
             "primaryDefectType": CLASS_NAMES[class_id],
             "confidence": round(score * 100, 2),
@@ -236,7 +278,10 @@ def predict_paint_defect(
             "locationCode": "도장실-A",
             "detectedDefects": detected_defects
         }
-        _save_to_backend(backend_url, backend_data)
+        _save_to_backend(backend_url, backend_data, image_path,
+                         result_img_fs if os.path.exists(result_img_fs) else image_path)
+        public_img_path = backend_data["imageUrl"]
+        public_result_img = backend_data["resultImageUrl"]
 
         if os.path.exists(image_path):
             os.remove(image_path)
@@ -293,6 +338,17 @@ def _pick_next_paint_image():
     return path
 
 
+def _paint_auto_image_at(offset: int):
+    """
+    ✅ offset 지정 조회: 공유 커서를 건드리지 않고 idx = offset % len(files)
+    """
+    _refresh_paint_auto_files()
+    files = paint_auto_state.get("files", [])
+    if not files:
+        return None
+    return files[offset % len(files)]
+
+
 def skip_to_next_image():
     """
     ✅ 이미지를 1개 건너뛰기 (재검사 시 다른 이미지 사용)
@@ -306,16 +362,23 @@ def skip_to_next_image():
 
 
 def predict_paint_defect_auto(*, base_dir: str, save_image_dir: str, save_label_dir: str, save_result_dir: str,
-                             backend_url: str = "http://localhost:3001/api/paint-analysis"):
+                             backend_url: str = "http://localhost:3001/api/paint-analysis",
+                             offset: int = None):
     """
     ✅ 5초마다 1번만 '새 이미지 + 새 예측'
     - 그 사이 호출은 캐시 반환
     - paint/sample_images 에서 이름순 순차 재생
+    ✅ offset 지정 시: offset % 파일 수 번째 이미지를 매번 새로 예측 (throttle/캐시/공유 커서 없음)
     """
     global model
     if model is None:
         raise RuntimeError("paint model not loaded")
 
+    if offset is not None:
+        return _predict_paint_auto_at(offset, base_dir=base_dir, save_image_dir=save_image_dir,
+                                      save_label_dir=save_label_dir, save_result_dir=save_result_dir,
+                                      backend_url=backend_url)
+
     now = time.time()
     last_ts = float(paint_auto_state.get("last_ts") or 0.0)
     cached = paint_auto_state.get("last_result")
@@ -376,3 +439,26 @@ def predict_paint_defect_auto(*, base_dir: str, save_image_dir: str, save_label_
     paint_auto_state["last_ts"] = time.time()
     paint_auto_state["last_result"] = result
     return result
+
+
+def _predict_paint_auto_at(offset: int, *, base_dir: str, save_image_dir: str, save_label_dir: str,
+                           save_result_dir: str, backend_url: str):
+    src_path = _paint_auto_image_at(offset)
+    if not src_path or not os.path.exists(src_path):
+        raise FileNotFoundError(f"no images in {paint_auto_state.get('auto_dir')}")
+
+    with open(src_path, "rb") as f:
+        result = predict_paint_defect(
+            file_obj=f,
+            original_filename=os.path.basename(src_path),
+            base_dir=base_dir,
+            save_image_dir=save_image_dir,
+            save_label_dir=save_label_dir,
+            save_result_dir=save_result_dir,
+            backend_url=backend_url,
+        )
+
+    result["source"] = os.path.basename(src_path)
+    result["sequence"] = {"offset": offset, "count": len(paint_auto_state.get("files", []))}
+    result["auto_note"] = None
+    return result
@@ -346,6 +346,17 @@ def _pick_next_sample_image_path():
     return path
 
 
+def _sample_image_path_at(offset: int):
+    """
+    ✅ offset 지정 조회: 공유 커서를 건드리지 않고 idx = offset % len(files)
+    """
+    _refresh_image_list()
+    files = image_seq_state["files"]
+    if not files:
+        return None
+    return files[offset % len(files)]
+
+
 def skip_to_next_image():
     """
     ✅ 이미지를 1개 건너뛰기 (재검사 시 다른 이미지 사용)
@@ -444,10 +455,11 @@ def predict_vibration_anomaly_sim():
         }
 
 
-async def predict_press_image_sim():
+async def predict_press_image_sim(offset: int = None):
     """
     ✅ 업로드 없이 서버가 자동으로 이미지 가져와서 예측 (순차 재생):
     - press/sample_images 폴더에서 이름순으로 1장씩 순차 선택
+      (offset 지정 시 offset % 파일 수 번째 이미지, 공유 커서는 건드리지 않음)
     - CNN input shape(H,W,C)에 맞게 리사이즈 후 예측
     - 프론트 표시용 image_base64 포함 반환
     - 폴더 비었거나 Pillow 없으면 랜덤 시뮬 입력으로 fallback
@@ -478,7 +490,7 @@ async def predict_press_image_sim():
         W = int(shp[2])
         C = int(shp[3])
 
-        img_path = _pick_next_sample_image_path()
+        img_path = _pick_next_sample_image_path() if offset is None else _sample_image_path_at(offset)
 
         x = None
         image_b64 = None
@@ -537,6 +549,7 @@ async def predict_press_image_sim():
             "note": note,
             "sequence": {
                 "index_next": image_seq_state["idx"],   # 다음에 보여줄 인덱스(디버그용)
+                "offset": offset,
                 "count": len(image_seq_state["files"]),
             },
         }
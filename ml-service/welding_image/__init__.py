@@ -56,6 +56,15 @@ def _get_next_auto_image_path() -> Optional[str]:
         _auto_state["idx"] = (idx + 1) % len(files)
         return path
 
+def _get_auto_image_path_at(offset: int) -> Optional[str]:
+    """
+    ✅ offset 지정 조회: 공유 커서를 건드리지 않고 idx = offset % len(files)
+    """
+    files = _list_auto_files()
+    if not files:
+        return None
+    return files[offset % len(files)]
+
 def get_auto_sequence_info() -> Dict[str, int]:
     with _auto_lock:
         files = _auto_state.get("files", []) or _list_auto_files()
@@ -103,16 +112,18 @@ async def predict_welding_image(file: UploadFile):
         except Exception:
             pass
 
-def predict_welding_image_auto() -> Dict[str, Any]:
+def predict_welding_image_auto(offset: Optional[int] = None) -> Dict[str, Any]:
     """
     ✅ 업로드 없이 sample_images 폴더에서 순차적으로 가져와 예측
+    - offset 지정 시: offset % 파일 수 번째 이미지 (상태 없음, 같은 offset = 같은 이미지)
+    - offset 없으면: 서버 공유 커서로 다음 이미지
     반환: pipeline 결과 + source/sequence
     """
     # 모델 로드(안 되어있으면)
     if not stage1_loaded() or not stage2_loaded():
         load_welding_image_models()
 
-    img_path = _get_next_auto_image_path()
+    img_path = _get_next_auto_image_path() if offset is None else _get_auto_image_path_at(offset)
     if img_path is None:
         raise HTTPException(
             status_code=404,
@@ -121,6 +132,6 @@ def predict_welding_image_auto() -> Dict[str, Any]:
 
     result = full_pipeline(img_path)
     result["source"] = os.path.basename(img_path)
-    result["sequence"] = get_auto_sequence_info()
+    result["sequence"] = get_auto_sequence_info() if offset is None else {"offset": offset, "count": len(_list_auto_files())}
     result["original_image_path"] = img_path  # main.py에서 URL 만들 때 씀
     return result
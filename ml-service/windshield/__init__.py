@@ -65,3 +65,47 @@ def predict_from_csv(side: str, csv_bytes: bytes):
 
     judgement = "PASS" if pred == PASS_LABEL else "FAIL"
     return pred, judgement
+
+
+def predict_batch_from_csv(items):
+    """
+    배치 예측 (side 별로 묶어 model.predict 를 한 번씩만 호출)
+    items: [(side, csv_bytes), ...]
+    Return: [{"prediction", "judgement"} | {"error"}, ...]  (입력 순서 유지)
+    """
+    results = [None] * len(items)
+    rows = {"left": [], "right": []}
+
+    for i, (side, csv_bytes) in enumerate(items):
+        try:
+            s = (side or "").strip().lower()
+            if s not in ("left", "right"):
+                raise ValueError('side must be "left" or "right"')
+            X = _parse_csv_bytes(csv_bytes)
+            if X.ndim != 2 or X.shape[0] < 1:
+                raise ValueError("CSV is empty or invalid")
+            rows[s].append((i, X[0]))
+        except Exception as e:
+            results[i] = {"error": str(e)}
+
+    for s, entries in rows.items():
+        if not entries:
+            continue
+        model = left_model if s == "left" else right_model
+        if model is None:
+            for i, _ in entries:
+                results[i] = {"error": f"{s.capitalize()} model not loaded"}
+            continue
+
+        try:
+            preds = model.predict(np.stack([x for _, x in entries]))
+        except Exception as e:
+            for i, _ in entries:
+                results[i] = {"error": str(e)}
+            continue
+
+        for (i, _), pred_raw in zip(entries, preds):
+            pred = int(pred_raw)
+            results[i] = {"prediction": pred, "judgement": "PASS" if pred == PASS_LABEL else "FAIL"}
+
+    return results